@@ -3,8 +3,7 @@ package com.ticketsalesapp;
 import com.ticketsalesapp.model.user.Admin;
 import com.ticketsalesapp.model.user.Customer;
 import com.ticketsalesapp.model.user.User;
-import com.ticketsalesapp.service.user.AdminService;
-import com.ticketsalesapp.service.user.CustomerService;
+import com.ticketsalesapp.service.user.UserDirectory;
 import com.ticketsalesapp.service.user.UserSession;
 import com.ticketsalesapp.view.admin.AdminMenu;
 import com.ticketsalesapp.view.*;
@@ -17,8 +16,7 @@ import java.util.Scanner;
 @Component
 public class ConsoleApp {
 
-    private final AdminService adminService;
-    private final CustomerService customerService;
+    private final UserDirectory userDirectory;
     private final UserSession userSession;
     private final AdminMenu adminMenu;
     private final CustomerMenu customerMenu;
@@ -26,13 +24,13 @@ public class ConsoleApp {
     private final MainMenu mainMenu;
 
     private RepositoryFactory repositoryFactory;
+    private String sessionToken = null;
     private User currentUser = null;
 
     @Autowired
-    public ConsoleApp(AdminService adminService, CustomerService customerService, UserSession userSession, AdminMenu adminMenu,
+    public ConsoleApp(UserDirectory userDirectory, UserSession userSession, AdminMenu adminMenu,
                       CustomerMenu customerMenu, LoginMenu loginMenu, MainMenu mainMenu) {
-        this.adminService = adminService;
-        this.customerService = customerService;
+        this.userDirectory = userDirectory;
         this.userSession = userSession;
         this.adminMenu = adminMenu;
         this.customerMenu = customerMenu;
@@ -58,8 +56,7 @@ public class ConsoleApp {
         while (running) {
             if (currentUser == null) {
                 // Are there users in our repos?
-                boolean hasUsers = !adminService.getAllAdmins().isEmpty() ||
-                        !customerService.getAllCustomers().isEmpty();
+                boolean hasUsers = userDirectory.hasUsers();
 
                 if (!hasUsers) {
                     // If we somehow don't, go back to "No Users Menu"
@@ -67,27 +64,30 @@ public class ConsoleApp {
                     if (!running) break;
                 } else {
                     // If we do, then "LogIn Menu"
-                    currentUser = loginMenu.display(scanner);
+                    sessionToken = loginMenu.display(scanner);
+                    currentUser = userSession.resolve(sessionToken).orElse(null);
                     if (currentUser == null) {
                         running = false;
                     }
                 }
 
             } else if (userSession.isAdmin(currentUser)) {
-                boolean shouldContinue = adminMenu.display(scanner, (Admin) currentUser);
+                boolean shouldContinue = adminMenu.display(scanner, sessionToken, (Admin) currentUser);
                 if (!shouldContinue) {
                     // If current user chooses to "Logout" or "Exit"
-                    if (userSession.getCurrentUser().isEmpty()) {
+                    if (userSession.resolve(sessionToken).isEmpty()) {
+                        sessionToken = null;
                         currentUser = null;  // Back to "LogIn Menu"
                     } else {
                         running = false;  // Completely exit the app
                     }
                 }
             } else if (userSession.isCustomer(currentUser)) {
-                boolean shouldContinue = customerMenu.display(scanner, (Customer) currentUser);
+                boolean shouldContinue = customerMenu.display(scanner, sessionToken, (Customer) currentUser);
                 if (!shouldContinue) {
                     // If current user chooses to "Logout" or "Exit"
-                    if (userSession.getCurrentUser().isEmpty()) {
+                    if (userSession.resolve(sessionToken).isEmpty()) {
+                        sessionToken = null;
                         currentUser = null;  // Back to "LogIn Menu"
                     } else {
                         running = false;  // Completely exit the app
@@ -2,22 +2,29 @@ package com.ticketsalesapp.controller;
 
 import com.ticketsalesapp.model.event.Artist;
 import com.ticketsalesapp.service.ArtistService;
+import com.ticketsalesapp.service.importer.ImportReport;
+import com.ticketsalesapp.service.importer.PerformerImportService;
 import org.springframework.stereotype.Component;
 
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Component
 public class ArtistController {
 
     private final ArtistService artistService;
+    private final PerformerImportService performerImportService;
 
     /**
      * Constructor for ArtistController.
      * @param artistService The instance of ArtistService used to handle artist operations.
+     * @param performerImportService The service used for bulk imports.
      */
-    public ArtistController(ArtistService artistService) {
+    public ArtistController(ArtistService artistService, PerformerImportService performerImportService) {
         this.artistService = artistService;
+        this.performerImportService = performerImportService;
     }
 
     /**
@@ -73,6 +80,16 @@ public class ArtistController {
         return artistService.findArtistByName(artistName);
     }
 
+    /**
+     * Suggests artists whose names start with the given text.
+     * @param prefix The text typed so far.
+     * @param limit The maximum number of suggestions.
+     * @return Up to {@code limit} matching artists.
+     */
+    public List<Artist> suggestArtists(String prefix, int limit) {
+        return artistService.suggestArtists(prefix, limit);
+    }
+
     /**
      * Finds artists that match a specified genre.
      * @param genre The genre to filter artists by.
@@ -82,6 +99,23 @@ public class ArtistController {
         return artistService.findArtistsByGenre(genre);
     }
 
+    /**
+     * Counts the artists in every genre.
+     * @return A map from genre to number of artists.
+     */
+    public Map<String, Integer> getGenreCounts() {
+        return artistService.getGenreCounts();
+    }
+
+    /**
+     * Imports artists in bulk from a CSV file with one name,genre line per artist.
+     * @param csvPath The path to the CSV file.
+     * @return The per-row outcome of the import.
+     */
+    public ImportReport importArtists(String csvPath) {
+        return performerImportService.importArtists(Path.of(csvPath));
+    }
+
     public void displayAllArtists() {
         List<Artist> artists = artistService.getAllArtists();
         if(artists.isEmpty()) {
@@ -2,22 +2,29 @@ package com.ticketsalesapp.controller;
 
 import com.ticketsalesapp.model.event.Athlete;
 import com.ticketsalesapp.service.AthleteService;
+import com.ticketsalesapp.service.importer.ImportReport;
+import com.ticketsalesapp.service.importer.PerformerImportService;
 import org.springframework.stereotype.Component;
 
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Component
 public class AthleteController {
 
     private final AthleteService athleteService;
+    private final PerformerImportService performerImportService;
 
     /**
      * Constructor for AthleteController.
      * @param athleteService The instance of AthleteService used for athlete-related operations.
+     * @param performerImportService The service used for bulk imports.
      */
-    public AthleteController(AthleteService athleteService) {
+    public AthleteController(AthleteService athleteService, PerformerImportService performerImportService) {
         this.athleteService = athleteService;
+        this.performerImportService = performerImportService;
     }
 
     /**
@@ -73,6 +80,16 @@ public class AthleteController {
         return athleteService.findAthleteByName(athleteName);
     }
 
+    /**
+     * Suggests athletes whose names start with the given text.
+     * @param prefix The text typed so far.
+     * @param limit The maximum number of suggestions.
+     * @return Up to {@code limit} matching athletes.
+     */
+    public List<Athlete> suggestAthletes(String prefix, int limit) {
+        return athleteService.suggestAthletes(prefix, limit);
+    }
+
     /**
      * Finds athletes that match a specified sport.
      * @param sport The sport to filter athletes by.
@@ -82,6 +99,23 @@ public class AthleteController {
         return athleteService.findAthletesBySport(sport);
     }
 
+    /**
+     * Counts the athletes in every sport.
+     * @return A map from sport to number of athletes.
+     */
+    public Map<String, Integer> getSportCounts() {
+        return athleteService.getSportCounts();
+    }
+
+    /**
+     * Imports athletes in bulk from a CSV file with one name,sport line per athlete.
+     * @param csvPath The path to the CSV file.
+     * @return The per-row outcome of the import.
+     */
+    public ImportReport importAthletes(String csvPath) {
+        return performerImportService.importAthletes(Path.of(csvPath));
+    }
+
     public void displayAllAthletes() {
         List<Athlete> athletes = athleteService.getAllAthletes();
         if (athletes.isEmpty()) {
@@ -0,0 +1,63 @@
+package com.ticketsalesapp.controller;
+
+import com.ticketsalesapp.exception.BusinessLogicException;
+import com.ticketsalesapp.exception.ServiceUnavailableException;
+import com.ticketsalesapp.exception.TooManyAttemptsException;
+import com.ticketsalesapp.service.user.AuthenticationService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Login and logout over HTTP. The session token from a login is sent as the {@code X-Session-Token} header
+ * on later calls. Attempts are throttled per username and per client address; the address is the
+ * connection's peer, not a forwarding header a client could set to dodge the throttle.
+ */
+@RestController
+@RequestMapping("/api/sessions")
+@CrossOrigin(origins = "http://localhost:3000")
+public class SessionController {
+    private static final String SESSION_HEADER = "X-Session-Token";
+
+    private final AuthenticationService authenticationService;
+
+    public record LoginRequest(String username, String password) {
+    }
+
+    public record LoginResponse(String sessionToken) {
+    }
+
+    public SessionController(AuthenticationService authenticationService) {
+        this.authenticationService = authenticationService;
+    }
+
+    @PostMapping
+    public LoginResponse login(@RequestBody LoginRequest login, HttpServletRequest request) {
+        try {
+            return new LoginResponse(authenticationService.login(login.username(), login.password(),
+                    request.getRemoteAddr()));
+        } catch (TooManyAttemptsException e) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, e.getMessage(), e);
+        } catch (ServiceUnavailableException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), e);
+        } catch (BusinessLogicException e) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, e.getMessage(), e);
+        }
+    }
+
+    @DeleteMapping
+    public void logout(@RequestHeader(SESSION_HEADER) String sessionToken) {
+        try {
+            authenticationService.logout(sessionToken);
+        } catch (BusinessLogicException e) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.ticketsalesapp.controller;
+
+import com.ticketsalesapp.exception.BusinessLogicException;
+import com.ticketsalesapp.model.user.Customer;
+import com.ticketsalesapp.model.user.User;
+import com.ticketsalesapp.service.ticket.EventTicketStore;
+import com.ticketsalesapp.service.ticket.EventTicketStores;
+import com.ticketsalesapp.service.ticket.TicketView;
+import com.ticketsalesapp.service.user.SessionStore;
+import com.ticketsalesapp.service.waitingroom.WaitingRoom;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+
+/**
+ * The reservation path: customers hold tickets of an event before buying them. While the event has an open
+ * {@link WaitingRoom}, holding needs the admission token the room handed out, and is answered with 403
+ * without it. An unknown event or ticket is answered with 404, a ticket someone else holds or bought with 409.
+ */
+@RestController
+@RequestMapping("/api/events/{eventId}/tickets/{ticketId}/hold")
+@CrossOrigin(origins = "http://localhost:3000")
+public class TicketHoldController {
+    private static final String SESSION_HEADER = "X-Session-Token";
+    private static final String ADMISSION_HEADER = "X-Admission-Token";
+    private static final Duration HOLD_DURATION = Duration.ofMinutes(10);
+
+    private final EventTicketStores stores;
+    private final WaitingRoom waitingRoom;
+    private final SessionStore sessionStore;
+
+    public TicketHoldController(EventTicketStores stores, WaitingRoom waitingRoom, SessionStore sessionStore) {
+        this.stores = stores;
+        this.waitingRoom = waitingRoom;
+        this.sessionStore = sessionStore;
+    }
+
+    @PostMapping
+    public void hold(@PathVariable("eventId") int eventId, @PathVariable("ticketId") int ticketId,
+                     @RequestHeader(SESSION_HEADER) String sessionToken,
+                     @RequestHeader(value = ADMISSION_HEADER, required = false) String admissionToken) {
+        int customerId = customerId(sessionToken);
+        try {
+            waitingRoom.checkAdmission(admissionToken, eventId, customerId);
+        } catch (BusinessLogicException e) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, e.getMessage(), e);
+        }
+        EventTicketStore store = store(eventId);
+        if (!store.hold(ticket(store, ticketId).getPosition(), customerId, HOLD_DURATION)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Ticket is no longer available.");
+        }
+    }
+
+    @DeleteMapping
+    public void release(@PathVariable("eventId") int eventId, @PathVariable("ticketId") int ticketId,
+                        @RequestHeader(SESSION_HEADER) String sessionToken) {
+        int customerId = customerId(sessionToken);
+        EventTicketStore store = store(eventId);
+        store.releaseHold(ticket(store, ticketId).getPosition(), customerId);
+    }
+
+    private EventTicketStore store(int eventId) {
+        return stores.find(eventId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Event has no tickets."));
+    }
+
+    private static TicketView ticket(EventTicketStore store, int ticketId) {
+        return store.find(ticketId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Ticket not found."));
+    }
+
+    private int customerId(String sessionToken) {
+        return sessionStore.resolve(sessionToken)
+                .filter(Customer.class::isInstance)
+                .map(User::getId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED,
+                        "You must be logged in as a customer."));
+    }
+}
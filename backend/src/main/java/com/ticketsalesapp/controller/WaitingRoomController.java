@@ -0,0 +1,126 @@
+package com.ticketsalesapp.controller;
+
+import com.ticketsalesapp.exception.BusinessLogicException;
+import com.ticketsalesapp.exception.EntityNotFoundException;
+import com.ticketsalesapp.exception.ValidationException;
+import com.ticketsalesapp.model.user.Admin;
+import com.ticketsalesapp.model.user.Customer;
+import com.ticketsalesapp.model.user.User;
+import com.ticketsalesapp.service.user.SessionStore;
+import com.ticketsalesapp.service.waitingroom.WaitingRoom;
+import com.ticketsalesapp.service.waitingroom.WaitingRoomStatus;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Endpoints for shoppers queueing for an event that is going on sale, and for admins opening and closing the
+ * event's room. The status endpoint is meant to be polled; it answers from memory without touching any
+ * repository. A missing session is answered with 401, a session of the wrong role with 403, joining an event
+ * without an open room with 404. Sessions come from {@code POST /api/sessions}.
+ */
+@RestController
+@RequestMapping("/api/waiting-room")
+@CrossOrigin(origins = "http://localhost:3000")
+public class WaitingRoomController {
+    private static final String SESSION_HEADER = "X-Session-Token";
+    private static final String ADMISSION_HEADER = "X-Admission-Token";
+
+    private final WaitingRoom waitingRoom;
+    private final SessionStore sessionStore;
+
+    public WaitingRoomController(WaitingRoom waitingRoom, SessionStore sessionStore) {
+        this.waitingRoom = waitingRoom;
+        this.sessionStore = sessionStore;
+    }
+
+    @PostMapping("/{eventId}")
+    public WaitingRoomStatus join(@PathVariable("eventId") int eventId,
+                                  @RequestHeader(SESSION_HEADER) String sessionToken) {
+        int customerId = customerId(sessionToken);
+        try {
+            return waitingRoom.join(eventId, customerId);
+        } catch (EntityNotFoundException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage(), e);
+        }
+    }
+
+    @GetMapping("/{eventId}")
+    public WaitingRoomStatus status(@PathVariable("eventId") int eventId,
+                                    @RequestHeader(SESSION_HEADER) String sessionToken) {
+        return waitingRoom.status(eventId, customerId(sessionToken));
+    }
+
+    @DeleteMapping("/{eventId}")
+    public void leave(@PathVariable("eventId") int eventId, @RequestHeader(SESSION_HEADER) String sessionToken) {
+        waitingRoom.leave(eventId, customerId(sessionToken));
+    }
+
+    /**
+     * Ends the customer's admission once they have finished reserving, so the next shopper in line is let in
+     * without waiting for the admission to expire.
+     */
+    @PostMapping("/{eventId}/complete")
+    public void complete(@PathVariable("eventId") int eventId, @RequestHeader(SESSION_HEADER) String sessionToken,
+                         @RequestHeader(ADMISSION_HEADER) String admissionToken) {
+        int customerId = customerId(sessionToken);
+        try {
+            waitingRoom.checkAdmission(admissionToken, eventId, customerId);
+        } catch (BusinessLogicException e) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, e.getMessage(), e);
+        }
+        waitingRoom.complete(admissionToken);
+    }
+
+    /**
+     * Opens the event's room, e.g. just before it goes on sale. Admins only.
+     */
+    @PutMapping("/{eventId}/room")
+    public void open(@PathVariable("eventId") int eventId, @RequestParam("maxActive") int maxActive,
+                     @RequestParam("admissionsPerSecond") double admissionsPerSecond,
+                     @RequestHeader(SESSION_HEADER) String sessionToken) {
+        requireAdmin(sessionToken);
+        try {
+            waitingRoom.open(eventId, maxActive, admissionsPerSecond);
+        } catch (ValidationException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        } catch (BusinessLogicException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Closes the event's room; reservations for it are no longer gated. Admins only.
+     */
+    @DeleteMapping("/{eventId}/room")
+    public void close(@PathVariable("eventId") int eventId, @RequestHeader(SESSION_HEADER) String sessionToken) {
+        requireAdmin(sessionToken);
+        waitingRoom.close(eventId);
+    }
+
+    private int customerId(String sessionToken) {
+        return user(sessionToken, Customer.class, "You must be logged in as a customer.").getId();
+    }
+
+    private void requireAdmin(String sessionToken) {
+        user(sessionToken, Admin.class, "Only admins can open or close a waiting room.");
+    }
+
+    private User user(String sessionToken, Class<? extends User> role, String forbidden) {
+        User user = sessionStore.resolve(sessionToken)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "You must be logged in."));
+        if (!role.isInstance(user)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, forbidden);
+        }
+        return user;
+    }
+}
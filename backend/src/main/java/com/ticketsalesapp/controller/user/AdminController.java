@@ -28,12 +28,12 @@ public class AdminController {
         return adminService.domainEmail(email);
     }
 
-    public Admin login(String username, String password) throws BusinessLogicException {
+    public String login(String username, String password) throws BusinessLogicException {
         return adminService.login(username, password);
     }
 
-    public void logout() throws BusinessLogicException {
-        adminService.logout();
+    public void logout(String sessionToken) throws BusinessLogicException {
+        adminService.logout(sessionToken);
     }
 
     public List<Admin> getAllAdmins() {
@@ -48,8 +48,8 @@ public class AdminController {
         adminService.deleteAdmin(id);
     }
 
-    public void getCurrentAdmin() {
-        Admin admin = adminService.getCurrentAdmin();
+    public void getCurrentAdmin(String sessionToken) {
+        Admin admin = adminService.getCurrentAdmin(sessionToken);
         if (admin != null) {
             System.out.println("👤 Logged in admin: " + admin);
         } else {
@@ -0,0 +1,27 @@
+package com.ticketsalesapp.controller.user;
+
+import com.ticketsalesapp.exception.BusinessLogicException;
+import com.ticketsalesapp.service.user.AuthenticationService;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AuthenticationController {
+
+    private final AuthenticationService authenticationService;
+
+    public AuthenticationController(AuthenticationService authenticationService) {
+        this.authenticationService = authenticationService;
+    }
+
+    public String login(String username, String password) throws BusinessLogicException {
+        return authenticationService.login(username, password);
+    }
+
+    public void logout(String sessionToken) throws BusinessLogicException {
+        authenticationService.logout(sessionToken);
+    }
+
+    public boolean hasUsers() {
+        return authenticationService.hasUsers();
+    }
+}
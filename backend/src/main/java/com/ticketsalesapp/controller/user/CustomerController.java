@@ -2,6 +2,7 @@ package com.ticketsalesapp.controller.user;
 
 import com.ticketsalesapp.exception.BusinessLogicException;
 import com.ticketsalesapp.exception.ValidationException;
+import com.ticketsalesapp.model.event.Event;
 import com.ticketsalesapp.model.user.Customer;
 import com.ticketsalesapp.model.user.FavouriteEntity;
 import com.ticketsalesapp.service.user.CustomerService;
@@ -28,12 +29,12 @@ public class CustomerController {
         return customerService.usernameExists(username);
     }
 
-    public Customer login(String username, String password) throws BusinessLogicException {
+    public String login(String username, String password) throws BusinessLogicException {
         return customerService.login(username, password);
     }
 
-    public void logout() throws BusinessLogicException {
-        customerService.logout();
+    public void logout(String sessionToken) throws BusinessLogicException {
+        customerService.logout(sessionToken);
     }
 
     public List<Customer> getAllCustomers() {
@@ -48,8 +49,8 @@ public class CustomerController {
         customerService.deleteCustomer(id);
     }
 
-    public void getCurrentCustomer() {
-        Customer customer = customerService.getCurrentCustomer();
+    public void getCurrentCustomer(String sessionToken) {
+        Customer customer = customerService.getCurrentCustomer(sessionToken);
         if (customer != null) {
             System.out.println("👤 Logged in customer: " + customer);
         } else {
@@ -57,26 +58,30 @@ public class CustomerController {
         }
     }
 
-    public void addFavourite(FavouriteEntity item) {
+    public void addFavourite(String sessionToken, FavouriteEntity item) {
         try {
-            customerService.addFavourite(item);
+            customerService.addFavourite(sessionToken, item);
             System.out.println("✅ Added to favourites: " + item);
         } catch (ValidationException | BusinessLogicException e) {
             System.out.println("❌ Error: " + e.getMessage());
         }
     }
 
-    public void removeFavourite(FavouriteEntity item) {
+    public void removeFavourite(String sessionToken, FavouriteEntity item) {
         try {
-            customerService.removeFavourite(item);
+            customerService.removeFavourite(sessionToken, item);
             System.out.println("✅ Removed from favourites: " + item);
         } catch (ValidationException e) {
             System.out.println("❌ Error: " + e.getMessage());
         }
     }
 
-    public void getFavourites() {
-        Set<FavouriteEntity> favourites = customerService.getFavourites();
+    public List<Event> getSuggestedEvents(String sessionToken, int limit) {
+        return customerService.getSuggestedEvents(sessionToken, limit);
+    }
+
+    public void getFavourites(String sessionToken) {
+        Set<FavouriteEntity> favourites = customerService.getFavourites(sessionToken);
         if (favourites.isEmpty()) {
             System.out.println("❌ No favourites found.");
         } else {
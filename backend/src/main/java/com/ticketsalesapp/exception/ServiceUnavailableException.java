@@ -0,0 +1,11 @@
+package com.ticketsalesapp.exception;
+
+/**
+ * Thrown when a request cannot be served right now because the system is overloaded,
+ * as opposed to being invalid. The caller should try again later.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
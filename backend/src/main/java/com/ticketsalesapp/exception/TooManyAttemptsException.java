@@ -0,0 +1,11 @@
+package com.ticketsalesapp.exception;
+
+/**
+ * Thrown when a login attempt is refused by the throttle before the credentials are checked.
+ * Unlike invalid credentials, the same attempt may succeed once the caller has waited.
+ */
+public class TooManyAttemptsException extends RuntimeException {
+    public TooManyAttemptsException(String message) {
+        super(message);
+    }
+}
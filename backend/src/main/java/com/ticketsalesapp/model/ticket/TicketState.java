@@ -0,0 +1,21 @@
+package com.ticketsalesapp.model.ticket;
+
+/**
+ * Represents where a ticket is in the buying process.
+ */
+public enum TicketState {
+    /**
+     * The ticket is on sale and can be claimed by any customer.
+     */
+    AVAILABLE,
+
+    /**
+     * The ticket is in a customer's cart and reserved for them until the hold expires.
+     */
+    HELD,
+
+    /**
+     * The ticket has been bought.
+     */
+    SOLD
+}
@@ -39,6 +39,14 @@
 //    @Column(name = "has_seats", nullable = false)
 //    private boolean hasSeats;
 //
+//    @Setter
+//    @Column(name = "latitude")
+//    private Double latitude;
+//
+//    @Setter
+//    @Column(name = "longitude")
+//    private Double longitude;
+//
 //    @Transient
 //    @OneToMany(mappedBy = "venue", cascade = CascadeType.ALL, orphanRemoval = true)
 //    private List<Section> sections = new ArrayList<>();
@@ -2,14 +2,17 @@ package com.ticketsalesapp.repository;
 
 import com.ticketsalesapp.model.Identifiable;
 
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @org.springframework.stereotype.Repository
 public class InMemoryRepository<T extends Identifiable> implements Repository<T> {
-    private final Map<Integer, T> data = new HashMap<>();
+    private final Map<Integer, T> data = new ConcurrentHashMap<>();
+    private final AtomicInteger maxId = new AtomicInteger();
 
     /**
      * Adds an object to the repository if it does not already exist.
@@ -20,13 +23,33 @@ public class InMemoryRepository<T extends Identifiable> implements Repository<T>
     @Override
     public boolean create(T obj) {
         if (obj.getId() == 0) {
-            int newId = data.keySet().stream().max(Integer::compareTo).orElse(0) + 1;
-            obj.setId(newId);
+            obj.setId(maxId.incrementAndGet());
+        } else {
+            maxId.accumulateAndGet(obj.getId(), Math::max);
         }
         data.putIfAbsent(obj.getId(), obj);
         return false;
     }
 
+    /**
+     * Adds many objects at once. Objects that already carry an ID keep it; the highest ID is
+     * recorded once for the whole batch.
+     *
+     * @param objs The objects to be added to the repository.
+     */
+    @Override
+    public void createAll(Collection<T> objs) {
+        int batchMax = 0;
+        for (T obj : objs) {
+            if (obj.getId() == 0) {
+                obj.setId(maxId.incrementAndGet());
+            }
+            batchMax = Math.max(batchMax, obj.getId());
+            data.putIfAbsent(obj.getId(), obj);
+        }
+        maxId.accumulateAndGet(batchMax, Math::max);
+    }
+
     /**
      * Retrieves an object from the repository by its ID.
      *
@@ -2,6 +2,7 @@ package com.ticketsalesapp.repository;
 
 import com.ticketsalesapp.model.Identifiable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +16,18 @@ public interface Repository<T extends Identifiable> {
      */
     boolean create(T obj);
 
+    /**
+     * Creates and adds many objects in one batch.
+     * Backends that can write a batch cheaper than one object at a time should override this.
+     *
+     * @param objs The objects to be added to the repository.
+     */
+    default void createAll(Collection<T> objs) {
+        for (T obj : objs) {
+            create(obj);
+        }
+    }
+
     /**
      * Retrieves an object from the repository by its ID.
      * @param id The ID of the object to be retrieved.
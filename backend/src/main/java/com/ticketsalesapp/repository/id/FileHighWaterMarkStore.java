@@ -0,0 +1,95 @@
+package com.ticketsalesapp.repository.id;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Persists high-water marks to a CSV file with one {@code entityType,mark} line per entity type.
+ * The file is rewritten once per reserved block, so the cost is amortized over the whole block.
+ */
+public class FileHighWaterMarkStore implements HighWaterMarkStore {
+    private final Path filePath;
+    private final Map<String, Integer> marks = new HashMap<>();
+    private final Lock lock = new ReentrantLock();
+
+    /**
+     * Constructs a store backed by the given CSV file, loading any marks saved by a previous run.
+     *
+     * @param filePath The path to the CSV file where the marks are stored.
+     */
+    public FileHighWaterMarkStore(String filePath) {
+        this.filePath = Paths.get(filePath);
+        load();
+    }
+
+    @Override
+    public int reserve(String entityType, int blockSize, int floor) {
+        lock.lock();
+        try {
+            int mark = Math.max(marks.getOrDefault(entityType, 0), floor) + blockSize;
+            marks.put(entityType, mark);
+            save();
+            return mark;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int current(String entityType) {
+        lock.lock();
+        try {
+            return marks.getOrDefault(entityType, 0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void load() {
+        if (Files.notExists(filePath)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(filePath)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] values = line.split(",");
+                if (values.length == 2) {
+                    marks.put(values[0].trim(), Integer.parseInt(values[1].trim()));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            throw new RuntimeException("Error reading file: " + filePath, e);
+        }
+    }
+
+    /**
+     * Writes all marks to a temporary file and moves it over the original, so a crash mid-write
+     * never leaves a truncated file behind.
+     */
+    private void save() {
+        Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try {
+            if (filePath.getParent() != null) {
+                Files.createDirectories(filePath.getParent());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile)) {
+                for (Map.Entry<String, Integer> entry : marks.entrySet()) {
+                    writer.write(entry.getKey() + "," + entry.getValue());
+                    writer.newLine();
+                }
+            }
+            Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing to file: " + filePath, e);
+        }
+    }
+}
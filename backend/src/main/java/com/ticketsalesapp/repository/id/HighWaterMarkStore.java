@@ -0,0 +1,27 @@
+package com.ticketsalesapp.repository.id;
+
+/**
+ * Durable record of the highest ID handed out per entity type.
+ * Implementations must make {@link #reserve} atomic, so that two allocators never receive overlapping blocks.
+ */
+public interface HighWaterMarkStore {
+
+    /**
+     * Reserves the next block of IDs for an entity type.
+     * The stored mark is first raised to {@code floor} if it is lower, then advanced by {@code blockSize}.
+     *
+     * @param entityType The name of the entity type the block is reserved for.
+     * @param blockSize  The number of IDs in the block.
+     * @param floor      The highest ID known to be in use already.
+     * @return The new high-water mark, i.e. the last ID of the reserved block.
+     */
+    int reserve(String entityType, int blockSize, int floor);
+
+    /**
+     * Returns the current high-water mark for an entity type, or 0 if no block was reserved yet.
+     *
+     * @param entityType The name of the entity type.
+     * @return The last reserved ID for the entity type.
+     */
+    int current(String entityType);
+}
@@ -0,0 +1,20 @@
+package com.ticketsalesapp.repository.id;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Provides the one {@link HighWaterMarkStore} shared by the ID generator and every other component that
+ * records progress marks. It is file-backed, so IDs are never handed out twice and marks survive a restart
+ * whichever repository backend is selected.
+ */
+@Configuration
+public class HighWaterMarkStoreConfiguration {
+
+    @Bean
+    public HighWaterMarkStore highWaterMarkStore(
+            @Value("${ticketsalesapp.high-water-mark-file:data/high_water_marks.csv}") String filePath) {
+        return new FileHighWaterMarkStore(filePath);
+    }
+}
@@ -0,0 +1,54 @@
+package com.ticketsalesapp.repository.id;
+
+import com.ticketsalesapp.model.Identifiable;
+import com.ticketsalesapp.repository.Repository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Central ID allocator shared by all services.
+ * Each entity type gets its own {@link IdSequence}, backed by the application's shared {@link HighWaterMarkStore}.
+ */
+@Component
+public class IdGenerator {
+    private static final int DEFAULT_BLOCK_SIZE = 50;
+
+    private final HighWaterMarkStore store;
+    private final int blockSize;
+    private final Map<String, IdSequence> sequences = new ConcurrentHashMap<>();
+
+    @Autowired
+    public IdGenerator(HighWaterMarkStore store) {
+        this(store, DEFAULT_BLOCK_SIZE);
+    }
+
+    public IdGenerator(HighWaterMarkStore store, int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive.");
+        }
+        this.store = store;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Returns the ID sequence for an entity type, creating it on first use.
+     * The repository is scanned once at that point so that IDs already present in the backend
+     * (e.g. rows loaded from a file or database) are never handed out again.
+     *
+     * @param type       The entity class the IDs are generated for.
+     * @param repository The repository holding the existing entities of that type.
+     * @return The shared sequence for the entity type.
+     */
+    public <T extends Identifiable> IdSequence sequenceFor(Class<T> type, Repository<T> repository) {
+        return sequences.computeIfAbsent(type.getSimpleName(), entityType -> {
+            int floor = repository.getAll().stream()
+                    .mapToInt(Identifiable::getId)
+                    .max()
+                    .orElse(0);
+            return new IdSequence(entityType, store, blockSize, floor);
+        });
+    }
+}
@@ -0,0 +1,71 @@
+package com.ticketsalesapp.repository.id;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out IDs for a single entity type using hi/lo allocation.
+ * A block of IDs is reserved from the {@link HighWaterMarkStore} (the "hi" part) and IDs inside the block
+ * (the "lo" part) are served from an atomic counter, so the store is only touched once per block.
+ */
+public class IdSequence {
+    private final String entityType;
+    private final HighWaterMarkStore store;
+    private final int blockSize;
+    private final int floor;
+    private volatile Block block = new Block(1, 0);
+
+    IdSequence(String entityType, HighWaterMarkStore store, int blockSize, int floor) {
+        this.entityType = entityType;
+        this.store = store;
+        this.blockSize = blockSize;
+        this.floor = floor;
+    }
+
+    /**
+     * Returns the next free ID. Safe to call from multiple threads.
+     *
+     * @return A new, unique ID for the entity type.
+     */
+    public int next() {
+        while (true) {
+            Block current = block;
+            int id = current.next.getAndIncrement();
+            if (id <= current.last) {
+                return id;
+            }
+            refill(current);
+        }
+    }
+
+    /**
+     * Reserves {@code count} consecutive IDs in one step, bypassing the current block.
+     * Used by bulk writes that would otherwise drain many blocks one ID at a time.
+     *
+     * @param count The number of IDs needed.
+     * @return The first ID of the reserved range; the range ends at {@code first + count - 1}.
+     */
+    public int nextRange(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Range size must be positive.");
+        }
+        return store.reserve(entityType, count, floor) - count + 1;
+    }
+
+    private synchronized void refill(Block exhausted) {
+        if (block != exhausted) {
+            return;
+        }
+        int last = store.reserve(entityType, blockSize, floor);
+        block = new Block(last - blockSize + 1, last);
+    }
+
+    private static final class Block {
+        private final AtomicInteger next;
+        private final int last;
+
+        private Block(int first, int last) {
+            this.next = new AtomicInteger(first);
+            this.last = last;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.ticketsalesapp.repository.id;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps high-water marks in memory, e.g. for tests and one-off tools. Marks are lost on restart; the
+ * application itself uses the file-backed store from {@link HighWaterMarkStoreConfiguration}.
+ */
+public class InMemoryHighWaterMarkStore implements HighWaterMarkStore {
+    private final Map<String, Integer> marks = new ConcurrentHashMap<>();
+
+    @Override
+    public int reserve(String entityType, int blockSize, int floor) {
+        return marks.merge(entityType, floor + blockSize,
+                (current, ignored) -> Math.max(current, floor) + blockSize);
+    }
+
+    @Override
+    public int current(String entityType) {
+        return marks.getOrDefault(entityType, 0);
+    }
+}
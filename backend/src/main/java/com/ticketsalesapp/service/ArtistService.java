@@ -5,19 +5,47 @@ import com.ticketsalesapp.exception.ValidationException;
 import com.ticketsalesapp.model.event.Artist;
 import com.ticketsalesapp.repository.Repository;
 import com.ticketsalesapp.repository.factory.RepositoryFactory;
+import com.ticketsalesapp.repository.id.IdGenerator;
+import com.ticketsalesapp.repository.id.IdSequence;
+import com.ticketsalesapp.service.importer.PerformerRow;
+import com.ticketsalesapp.service.search.FacetIndex;
+import com.ticketsalesapp.service.search.FuzzyNameIndex;
+import com.ticketsalesapp.service.search.NameIndex;
+import com.ticketsalesapp.service.search.SearchMatch;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 @Service
 public class ArtistService {
 
     private final Repository<Artist> artistRepository;
+    private final IdSequence artistIds;
+    private final NameIndex<Artist> artistNames = new NameIndex<>();
+    private final FuzzyNameIndex<Artist> artistFuzzyNames = new FuzzyNameIndex<>();
+    private final FacetIndex artistGenres = new FacetIndex();
+    private final List<PerformerListener> listeners = new CopyOnWriteArrayList<>();
 
-    public ArtistService(RepositoryFactory repositoryFactory) {
+    public ArtistService(RepositoryFactory repositoryFactory, IdGenerator idGenerator) {
         this.artistRepository = repositoryFactory.createArtistRepository();
+        this.artistIds = idGenerator.sequenceFor(Artist.class, artistRepository);
+        for (Artist artist : artistRepository.getAll()) {
+            artistNames.add(artist);
+            artistFuzzyNames.add(artist);
+            artistGenres.add(artist.getGenre(), artist.getId());
+        }
+    }
+
+    /**
+     * Registers a listener that is told about every stored artist change.
+     * @param listener The listener.
+     */
+    public void addListener(PerformerListener listener) {
+        listeners.add(listener);
     }
 
     /**
@@ -28,11 +56,44 @@ public class ArtistService {
     public void createArtist(String artistName, String genre) {
         validateInput(artistName, "Artist name cannot be empty.");
         validateInput(genre, "Genre cannot be empty.");
-        if (findArtistByName(artistName).isPresent()) {
+        Artist artist = new Artist(artistIds.next(), artistName, genre);
+        if (!artistNames.add(artist)) {
             throw new BusinessLogicException("Artist with name '" + artistName + "' already exists.");
         }
-        Artist artist = new Artist(generateNewId(), artistName, genre);
         artistRepository.create(artist);
+        artistFuzzyNames.add(artist);
+        artistGenres.add(genre, artist.getId());
+        listeners.forEach(listener -> listener.performersChanged(List.of(artist)));
+    }
+
+    /**
+     * Adds a batch of already validated artists, e.g. from a bulk import.
+     * IDs are reserved for the whole batch at once and the repository is written in a single call.
+     * @param rows The artists to add, with the genre as category.
+     * @return The rows that were skipped because an artist with the same name already exists.
+     */
+    public List<PerformerRow> createArtists(List<PerformerRow> rows) {
+        List<PerformerRow> rejected = new ArrayList<>();
+        if (rows.isEmpty()) {
+            return rejected;
+        }
+        int nextId = artistIds.nextRange(rows.size());
+        List<Artist> created = new ArrayList<>(rows.size());
+        for (PerformerRow row : rows) {
+            Artist artist = new Artist(nextId++, row.name(), row.category());
+            if (artistNames.add(artist)) {
+                created.add(artist);
+            } else {
+                rejected.add(row);
+            }
+        }
+        artistRepository.createAll(created);
+        for (Artist artist : created) {
+            artistFuzzyNames.add(artist);
+            artistGenres.add(artist.getGenre(), artist.getId());
+        }
+        listeners.forEach(listener -> listener.performersChanged(created));
+        return rejected;
     }
 
     /**
@@ -46,9 +107,18 @@ public class ArtistService {
         if (newName == null || newName.isBlank()) {
             throw new BusinessLogicException("Artist name cannot be null or empty.");
         }
+        validateInput(newGenre, "Genre cannot be empty.");
+        String oldName = artist.getArtistName();
+        if (!artistNames.rename(oldName, newName, artist)) {
+            throw new BusinessLogicException("Artist with name '" + newName + "' already exists.");
+        }
+        String oldGenre = artist.getGenre();
         artist.setArtistName(newName);
         artist.setGenre(newGenre);
         artistRepository.update(artist);
+        artistFuzzyNames.rename(oldName, artist);
+        artistGenres.move(oldGenre, newGenre, artistId);
+        listeners.forEach(listener -> listener.performersChanged(List.of(artist)));
     }
 
     /**
@@ -56,8 +126,12 @@ public class ArtistService {
      * @param artistId The ID of the artist to be deleted.
      */
     public void deleteArtist(int artistId) {
-        findArtistById(artistId);
+        Artist artist = findArtistById(artistId);
         artistRepository.delete(artistId);
+        artistNames.remove(artist.getArtistName());
+        artistFuzzyNames.remove(artist.getArtistName(), artist);
+        artistGenres.remove(artist.getGenre(), artistId);
+        listeners.forEach(listener -> listener.performerRemoved(artist));
     }
 
     /**
@@ -84,9 +158,28 @@ public class ArtistService {
      * @return The artist with the specified name, or null if no artist was found.
      */
     public Optional<Artist> findArtistByName(String artistName) {
-        return artistRepository.getAll().stream()
-                .filter(artist -> artist.getArtistName().equalsIgnoreCase(artistName))
-                .findFirst();
+        return artistNames.find(artistName);
+    }
+
+    /**
+     * Suggests artists whose names start with the given text, for typeahead search.
+     * @param prefix The text typed so far.
+     * @param limit The maximum number of suggestions.
+     * @return Up to {@code limit} artists, in alphabetical order.
+     */
+    public List<Artist> suggestArtists(String prefix, int limit) {
+        return artistNames.suggest(prefix, limit);
+    }
+
+    /**
+     * Finds artists whose names are close to the given text, tolerating typos.
+     * @param name The (possibly misspelled) name searched for.
+     * @param maxDistance The maximum number of single-character edits between the query and a match.
+     * @param limit The maximum number of matches.
+     * @return The matches, closest first.
+     */
+    public List<SearchMatch<Artist>> findArtistsBySimilarName(String name, int maxDistance, int limit) {
+        return artistFuzzyNames.search(name, maxDistance, limit);
     }
 
     /**
@@ -96,19 +189,18 @@ public class ArtistService {
      */
     public List<Artist> findArtistsByGenre(String genre) {
         List<Artist> artistsInGenre = new ArrayList<>();
-        for (Artist artist : artistRepository.getAll()) {
-            if (artist.getGenre().equalsIgnoreCase(genre)) {
-                artistsInGenre.add(artist);
-            }
+        for (int artistId : artistGenres.members(genre)) {
+            artistRepository.read(artistId).ifPresent(artistsInGenre::add);
         }
         return artistsInGenre;
     }
 
-    private int generateNewId() {
-        return artistRepository.getAll().stream()
-                .mapToInt(Artist::getId)
-                .max()
-                .orElse(0) + 1;
+    /**
+     * Counts the artists in every genre, for building a browse sidebar.
+     * @return A map from genre to number of artists, sorted by genre.
+     */
+    public Map<String, Integer> getGenreCounts() {
+        return artistGenres.counts();
     }
 
     private void validateInput(String value, String errorMessage) {
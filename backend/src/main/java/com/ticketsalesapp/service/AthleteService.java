@@ -5,18 +5,46 @@ import com.ticketsalesapp.exception.ValidationException;
 import com.ticketsalesapp.model.event.Athlete;
 import com.ticketsalesapp.repository.Repository;
 import com.ticketsalesapp.repository.factory.RepositoryFactory;
+import com.ticketsalesapp.repository.id.IdGenerator;
+import com.ticketsalesapp.repository.id.IdSequence;
+import com.ticketsalesapp.service.importer.PerformerRow;
+import com.ticketsalesapp.service.search.FacetIndex;
+import com.ticketsalesapp.service.search.FuzzyNameIndex;
+import com.ticketsalesapp.service.search.NameIndex;
+import com.ticketsalesapp.service.search.SearchMatch;
 import org.springframework.stereotype.Service;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 @Service
 public class AthleteService {
 
     private final Repository<Athlete> athleteRepository;
+    private final IdSequence athleteIds;
+    private final NameIndex<Athlete> athleteNames = new NameIndex<>();
+    private final FuzzyNameIndex<Athlete> athleteFuzzyNames = new FuzzyNameIndex<>();
+    private final FacetIndex athleteSports = new FacetIndex();
+    private final List<PerformerListener> listeners = new CopyOnWriteArrayList<>();
 
-    public AthleteService(RepositoryFactory repositoryFactory) {
+    public AthleteService(RepositoryFactory repositoryFactory, IdGenerator idGenerator) {
         this.athleteRepository = repositoryFactory.createAthleteRepository();
+        this.athleteIds = idGenerator.sequenceFor(Athlete.class, athleteRepository);
+        for (Athlete athlete : athleteRepository.getAll()) {
+            athleteNames.add(athlete);
+            athleteFuzzyNames.add(athlete);
+            athleteSports.add(athlete.getAthleteSport(), athlete.getId());
+        }
+    }
+
+    /**
+     * Registers a listener that is told about every stored athlete change.
+     * @param listener The listener.
+     */
+    public void addListener(PerformerListener listener) {
+        listeners.add(listener);
     }
 
     /**
@@ -27,11 +55,44 @@ public class AthleteService {
     public void createAthlete(String athleteName, String sport) {
         validateInput(athleteName, "Athlete name cannot be empty.");
         validateInput(sport, "Sport cannot be empty.");
-        if (findAthleteByName(athleteName).isPresent()) {
+        Athlete athlete = new Athlete(athleteIds.next(), athleteName, sport);
+        if (!athleteNames.add(athlete)) {
             throw new BusinessLogicException("Athlete with name '" + athleteName + "' already exists.");
         }
-        Athlete athlete = new Athlete(generateNewId(), athleteName, sport);
         athleteRepository.create(athlete);
+        athleteFuzzyNames.add(athlete);
+        athleteSports.add(sport, athlete.getId());
+        listeners.forEach(listener -> listener.performersChanged(List.of(athlete)));
+    }
+
+    /**
+     * Adds a batch of already validated athletes, e.g. from a bulk import.
+     * IDs are reserved for the whole batch at once and the repository is written in a single call.
+     * @param rows The athletes to add, with the sport as category.
+     * @return The rows that were skipped because an athlete with the same name already exists.
+     */
+    public List<PerformerRow> createAthletes(List<PerformerRow> rows) {
+        List<PerformerRow> rejected = new ArrayList<>();
+        if (rows.isEmpty()) {
+            return rejected;
+        }
+        int nextId = athleteIds.nextRange(rows.size());
+        List<Athlete> created = new ArrayList<>(rows.size());
+        for (PerformerRow row : rows) {
+            Athlete athlete = new Athlete(nextId++, row.name(), row.category());
+            if (athleteNames.add(athlete)) {
+                created.add(athlete);
+            } else {
+                rejected.add(row);
+            }
+        }
+        athleteRepository.createAll(created);
+        for (Athlete athlete : created) {
+            athleteFuzzyNames.add(athlete);
+            athleteSports.add(athlete.getAthleteSport(), athlete.getId());
+        }
+        listeners.forEach(listener -> listener.performersChanged(created));
+        return rejected;
     }
 
     /**
@@ -45,9 +106,18 @@ public class AthleteService {
         if (newName == null || newName.isBlank()) {
             throw new ValidationException("Athlete name cannot be null or empty.");
         }
+        validateInput(newSport, "Sport cannot be empty.");
+        String oldName = athlete.getAthleteName();
+        if (!athleteNames.rename(oldName, newName, athlete)) {
+            throw new BusinessLogicException("Athlete with name '" + newName + "' already exists.");
+        }
+        String oldSport = athlete.getAthleteSport();
         athlete.setAthleteName(newName);
         athlete.setAthleteSport(newSport);
         athleteRepository.update(athlete);
+        athleteFuzzyNames.rename(oldName, athlete);
+        athleteSports.move(oldSport, newSport, athleteId);
+        listeners.forEach(listener -> listener.performersChanged(List.of(athlete)));
     }
 
     /**
@@ -55,8 +125,12 @@ public class AthleteService {
      * @param athleteId The ID of the athlete to be deleted.
      */
     public void deleteAthlete(int athleteId) {
-        findAthleteById(athleteId);
+        Athlete athlete = findAthleteById(athleteId);
         athleteRepository.delete(athleteId);
+        athleteNames.remove(athlete.getAthleteName());
+        athleteFuzzyNames.remove(athlete.getAthleteName(), athlete);
+        athleteSports.remove(athlete.getAthleteSport(), athleteId);
+        listeners.forEach(listener -> listener.performerRemoved(athlete));
     }
 
     /**
@@ -83,9 +157,28 @@ public class AthleteService {
      * @return The athlete with the specified name, or null if no athlete was found.
      */
     public Optional<Athlete> findAthleteByName(String athleteName) {
-        return athleteRepository.getAll().stream()
-                .filter(artist -> artist.getAthleteName().equalsIgnoreCase(athleteName))
-                .findFirst();
+        return athleteNames.find(athleteName);
+    }
+
+    /**
+     * Suggests athletes whose names start with the given text, for typeahead search.
+     * @param prefix The text typed so far.
+     * @param limit The maximum number of suggestions.
+     * @return Up to {@code limit} athletes, in alphabetical order.
+     */
+    public List<Athlete> suggestAthletes(String prefix, int limit) {
+        return athleteNames.suggest(prefix, limit);
+    }
+
+    /**
+     * Finds athletes whose names are close to the given text, tolerating typos.
+     * @param name The (possibly misspelled) name searched for.
+     * @param maxDistance The maximum number of single-character edits between the query and a match.
+     * @param limit The maximum number of matches.
+     * @return The matches, closest first.
+     */
+    public List<SearchMatch<Athlete>> findAthletesBySimilarName(String name, int maxDistance, int limit) {
+        return athleteFuzzyNames.search(name, maxDistance, limit);
     }
 
     /**
@@ -95,19 +188,18 @@ public class AthleteService {
      */
     public List<Athlete> findAthletesBySport(String sport) {
         List<Athlete> athletesInSport = new ArrayList<>();
-        for (Athlete athlete : athleteRepository.getAll()) {
-            if (athlete.getAthleteSport().equalsIgnoreCase(sport)) {
-                athletesInSport.add(athlete);
-            }
+        for (int athleteId : athleteSports.members(sport)) {
+            athleteRepository.read(athleteId).ifPresent(athletesInSport::add);
         }
         return athletesInSport;
     }
 
-    private int generateNewId() {
-        return athleteRepository.getAll().stream()
-                .mapToInt(Athlete::getId)
-                .max()
-                .orElse(0) + 1;
+    /**
+     * Counts the athletes in every sport, for building a browse sidebar.
+     * @return A map from sport to number of athletes, sorted by sport.
+     */
+    public Map<String, Integer> getSportCounts() {
+        return athleteSports.counts();
     }
 
     private void validateInput(String value, String errorMessage) {
@@ -0,0 +1,24 @@
+package com.ticketsalesapp.service;
+
+import com.ticketsalesapp.model.user.FavouriteEntity;
+
+import java.util.List;
+
+/**
+ * Notified by {@link ArtistService} and {@link AthleteService} once a performer change is stored, so data
+ * derived from performers' names, genres or sports can be refreshed.
+ */
+public interface PerformerListener {
+
+    /**
+     * Called after performers were created, or renamed or moved to another genre or sport.
+     * @param performers The performers as they are now.
+     */
+    void performersChanged(List<? extends FavouriteEntity> performers);
+
+    /**
+     * Called after a performer was deleted.
+     * @param performer The deleted performer.
+     */
+    void performerRemoved(FavouriteEntity performer);
+}
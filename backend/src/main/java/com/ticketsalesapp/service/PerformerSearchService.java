@@ -0,0 +1,54 @@
+package com.ticketsalesapp.service;
+
+import com.ticketsalesapp.model.user.FavouriteEntity;
+import com.ticketsalesapp.service.search.SearchMatch;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Typo-tolerant search across both artists and athletes, for the customer's performer search box.
+ */
+@Service
+public class PerformerSearchService {
+    private static final int DEFAULT_MAX_DISTANCE = 2;
+
+    private final ArtistService artistService;
+    private final AthleteService athleteService;
+
+    public PerformerSearchService(ArtistService artistService, AthleteService athleteService) {
+        this.artistService = artistService;
+        this.athleteService = athleteService;
+    }
+
+    /**
+     * Searches artists and athletes with the default typo tolerance.
+     * @see #searchPerformers(String, int, int)
+     */
+    public List<SearchMatch<FavouriteEntity>> searchPerformers(String name, int limit) {
+        return searchPerformers(name, DEFAULT_MAX_DISTANCE, limit);
+    }
+
+    /**
+     * Finds artists and athletes whose names are within {@code maxDistance} edits of the query.
+     * @param name The (possibly misspelled) name searched for.
+     * @param maxDistance The maximum edit distance accepted.
+     * @param limit The maximum number of matches.
+     * @return The matches from both catalogs, closest first; empty if the limit is not positive.
+     */
+    public List<SearchMatch<FavouriteEntity>> searchPerformers(String name, int maxDistance, int limit) {
+        List<SearchMatch<FavouriteEntity>> matches = new ArrayList<>();
+        if (limit <= 0) {
+            return matches;
+        }
+        artistService.findArtistsBySimilarName(name, maxDistance, limit)
+                .forEach(match -> matches.add(new SearchMatch<>(match.entity(), match.distance())));
+        athleteService.findAthletesBySimilarName(name, maxDistance, limit)
+                .forEach(match -> matches.add(new SearchMatch<>(match.entity(), match.distance())));
+        matches.sort(Comparator.<SearchMatch<FavouriteEntity>>comparingInt(SearchMatch::distance)
+                .thenComparing(match -> match.entity().getName(), String.CASE_INSENSITIVE_ORDER));
+        return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    }
+}
@@ -0,0 +1,57 @@
+package com.ticketsalesapp.service.importer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import: how many rows were imported and why the others were rejected.
+ */
+public class ImportReport {
+    private int imported;
+    private final List<RowError> errors = new ArrayList<>();
+
+    void addImported(int count) {
+        imported += count;
+    }
+
+    void addError(int line, String message) {
+        errors.add(new RowError(line, message));
+    }
+
+    /**
+     * Puts the errors in file order; called once when the import is done, since chunks report them out of order.
+     */
+    void sortErrors() {
+        errors.sort(Comparator.comparingInt(RowError::line));
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    /**
+     * Returns the rejected rows, in file order.
+     * @return The row errors.
+     */
+    public List<RowError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    @Override
+    public String toString() {
+        return "ImportReport{" +
+                "imported=" + imported +
+                ", rejected=" + errors.size() +
+                '}';
+    }
+
+    /**
+     * A rejected row.
+     * @param line    The line number in the file.
+     * @param message Why the row was rejected.
+     */
+    public record RowError(int line, String message) {
+    }
+}
@@ -0,0 +1,204 @@
+package com.ticketsalesapp.service.importer;
+
+import com.ticketsalesapp.exception.ValidationException;
+import com.ticketsalesapp.service.ArtistService;
+import com.ticketsalesapp.service.AthleteService;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * Bulk import of artists and athletes from CSV files with one {@code name,category} line per performer,
+ * where the category is the genre or sport. A header line is optional, and a UTF-8 byte order mark is
+ * skipped. Fields may be quoted as in RFC 4180, so a name like {@code "Earth, Wind & Fire"} keeps its comma;
+ * a quoted field cannot span lines.
+ * <p>
+ * The file is streamed in chunks. Each chunk is validated and deduplicated in parallel, then handed to the
+ * owning service as one batch, which reserves its IDs in a single block and writes the repository once.
+ * Rejected rows end up in the returned {@link ImportReport}; they never abort the import.
+ */
+@Service
+public class PerformerImportService {
+    private static final int CHUNK_SIZE = 10_000;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final ArtistService artistService;
+    private final AthleteService athleteService;
+
+    public PerformerImportService(ArtistService artistService, AthleteService athleteService) {
+        this.artistService = artistService;
+        this.athleteService = athleteService;
+    }
+
+    /**
+     * Imports artists from a {@code name,genre} CSV file.
+     * @param csvFile The file to import.
+     * @return The per-row outcome of the import.
+     */
+    public ImportReport importArtists(Path csvFile) {
+        return importPerformers(csvFile, "genre",
+                name -> artistService.findArtistByName(name).isPresent(), artistService::createArtists);
+    }
+
+    /**
+     * Imports athletes from a {@code name,sport} CSV file.
+     * @param csvFile The file to import.
+     * @return The per-row outcome of the import.
+     */
+    public ImportReport importAthletes(Path csvFile) {
+        return importPerformers(csvFile, "sport",
+                name -> athleteService.findAthleteByName(name).isPresent(), athleteService::createAthletes);
+    }
+
+    private ImportReport importPerformers(Path csvFile, String category, Predicate<String> exists,
+                                          Function<List<PerformerRow>, List<PerformerRow>> creator) {
+        ImportReport report = new ImportReport();
+        Map<String, Integer> firstLineByName = new ConcurrentHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(csvFile)) {
+            List<String> chunk = new ArrayList<>(CHUNK_SIZE);
+            int lineNumber = 0;
+            int chunkStart = 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1) {
+                    if (!line.isEmpty() && line.charAt(0) == BYTE_ORDER_MARK) {
+                        line = line.substring(1);
+                    }
+                    if (isHeader(line, category)) {
+                        chunkStart = 2;
+                        continue;
+                    }
+                }
+                chunk.add(line);
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(chunk, chunkStart, category, exists, creator, firstLineByName, report);
+                    chunk.clear();
+                    chunkStart = lineNumber + 1;
+                }
+            }
+            importChunk(chunk, chunkStart, category, exists, creator, firstLineByName, report);
+        } catch (IOException e) {
+            throw new ValidationException("Could not read import file: " + csvFile);
+        }
+        report.sortErrors();
+        return report;
+    }
+
+    private static boolean isHeader(String line, String category) {
+        List<String> values = split(line);
+        return values != null && values.size() == 2
+                && values.get(0).trim().equalsIgnoreCase("name")
+                && values.get(1).trim().equalsIgnoreCase(category);
+    }
+
+    private void importChunk(List<String> lines, int firstLine, String category, Predicate<String> exists,
+                             Function<List<PerformerRow>, List<PerformerRow>> creator,
+                             Map<String, Integer> firstLineByName, ImportReport report) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        Queue<ImportReport.RowError> errors = new ConcurrentLinkedQueue<>();
+        List<PerformerRow> valid = IntStream.range(0, lines.size()).parallel()
+                .mapToObj(i -> parse(lines.get(i), firstLine + i, category, errors))
+                .filter(Objects::nonNull)
+                .toList();
+
+        // The lowest line number claims a name; later lines with the same name are duplicates.
+        valid.parallelStream().forEach(row -> firstLineByName.merge(fold(row.name()), row.line(), Math::min));
+        List<PerformerRow> accepted = valid.parallelStream()
+                .filter(row -> {
+                    int owner = firstLineByName.get(fold(row.name()));
+                    if (owner != row.line()) {
+                        errors.add(new ImportReport.RowError(row.line(), "Duplicate of line " + owner + "."));
+                        return false;
+                    }
+                    if (exists.test(row.name())) {
+                        errors.add(new ImportReport.RowError(row.line(), "Performer '" + row.name() + "' already exists."));
+                        return false;
+                    }
+                    return true;
+                })
+                .toList();
+
+        List<PerformerRow> rejected = creator.apply(accepted);
+        rejected.forEach(row -> report.addError(row.line(), "Performer '" + row.name() + "' already exists."));
+        errors.forEach(error -> report.addError(error.line(), error.message()));
+        report.addImported(accepted.size() - rejected.size());
+    }
+
+    private static PerformerRow parse(String line, int lineNumber, String category, Queue<ImportReport.RowError> errors) {
+        List<String> values = split(line);
+        String problem = null;
+        if (values == null) {
+            problem = "Unterminated quoted field.";
+        } else if (values.size() != 2) {
+            problem = "Expected 2 columns (name," + category + ") but found " + values.size() + ".";
+        } else if (values.get(0).isBlank()) {
+            problem = "Name cannot be empty.";
+        } else if (values.get(1).isBlank()) {
+            problem = Character.toUpperCase(category.charAt(0)) + category.substring(1) + " cannot be empty.";
+        }
+        if (problem != null) {
+            errors.add(new ImportReport.RowError(lineNumber, problem));
+            return null;
+        }
+        return new PerformerRow(lineNumber, values.get(0).trim(), values.get(1).trim());
+    }
+
+    /**
+     * Splits one CSV line into its fields. A field wrapped in double quotes may contain commas, and a doubled
+     * quote inside it stands for one quote.
+     * @param line The line to split.
+     * @return The fields, or null if a quoted field is not closed on this line.
+     */
+    static List<String> split(String line) {
+        List<String> values = new ArrayList<>(2);
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    value.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"' && value.toString().isBlank()) {
+                value.setLength(0);
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    private static String fold(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
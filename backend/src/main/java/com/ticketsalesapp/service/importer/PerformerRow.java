@@ -0,0 +1,11 @@
+package com.ticketsalesapp.service.importer;
+
+/**
+ * One data row of a performer import file.
+ *
+ * @param line     The line number in the file, starting at 1.
+ * @param name     The performer's name.
+ * @param category The artist's genre or the athlete's sport.
+ */
+public record PerformerRow(int line, String name, String category) {
+}
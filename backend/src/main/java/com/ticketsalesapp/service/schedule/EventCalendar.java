@@ -0,0 +1,183 @@
+package com.ticketsalesapp.service.schedule;
+
+import com.ticketsalesapp.model.event.Event;
+import com.ticketsalesapp.model.event.EventStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Time-ordered index of events by start date and time, with secondary partitions by venue and by status.
+ * Range queries ("next 30 days", "this weekend at venue X") walk only the matching slice of a skip list,
+ * so they run in O(log n + k) instead of scanning and sorting every event.
+ * <p>
+ * Events are mutable, so the calendar remembers the start, venue and status each event was indexed with;
+ * call {@link #index(Event)} again after changing any of them and the old entries are moved.
+ *
+ * @param <E> The indexed event type (concert or sports event).
+ */
+public class EventCalendar<E extends Event> {
+    private final NavigableMap<Slot, E> timeline = new ConcurrentSkipListMap<>();
+    private final Map<Integer, NavigableMap<Slot, E>> byVenue = new ConcurrentHashMap<>();
+    private final Map<EventStatus, NavigableMap<Slot, E>> byStatus = new EnumMap<>(EventStatus.class);
+    private final Map<Integer, Entry> entries = new ConcurrentHashMap<>();
+
+    public EventCalendar() {
+        for (EventStatus status : EventStatus.values()) {
+            byStatus.put(status, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    /**
+     * Adds an event to the calendar, or moves it if its start, venue or status changed since it was indexed.
+     * Events without a start date and time cannot be placed on the calendar and are only removed.
+     * @param event The event to index.
+     */
+    public synchronized void index(E event) {
+        int eventID = event.getId();
+        unindex(entries.remove(eventID));
+        if (event.getStartDateTime() == null) {
+            return;
+        }
+        Entry entry = new Entry(new Slot(event.getStartDateTime(), eventID), event.getVenueID(), event.getEventStatus());
+        timeline.put(entry.slot, event);
+        byVenue.computeIfAbsent(entry.venueID, venueID -> new ConcurrentSkipListMap<>()).put(entry.slot, event);
+        if (entry.status != null) {
+            byStatus.get(entry.status).put(entry.slot, event);
+        }
+        entries.put(eventID, entry);
+    }
+
+    /**
+     * Removes an event from the calendar.
+     * @param eventID The ID of the event to remove.
+     */
+    public synchronized void remove(int eventID) {
+        unindex(entries.remove(eventID));
+    }
+
+    /**
+     * Returns the events starting in {@code [from, to)}, ordered by start.
+     * @param from The inclusive lower bound.
+     * @param to   The exclusive upper bound.
+     * @return The matching events.
+     */
+    public List<E> between(LocalDateTime from, LocalDateTime to) {
+        return slice(timeline, from, to);
+    }
+
+    /**
+     * Returns the events at a venue starting in {@code [from, to)}, ordered by start.
+     * @param venueID The venue's ID.
+     * @param from    The inclusive lower bound.
+     * @param to      The exclusive upper bound.
+     * @return The matching events.
+     */
+    public List<E> betweenAtVenue(int venueID, LocalDateTime from, LocalDateTime to) {
+        NavigableMap<Slot, E> venueEvents = byVenue.get(venueID);
+        return venueEvents == null ? new ArrayList<>() : slice(venueEvents, from, to);
+    }
+
+    /**
+     * Returns the events with a given status starting in {@code [from, to)}, ordered by start.
+     * @param status The event status.
+     * @param from   The inclusive lower bound.
+     * @param to     The exclusive upper bound.
+     * @return The matching events.
+     */
+    public List<E> betweenWithStatus(EventStatus status, LocalDateTime from, LocalDateTime to) {
+        return slice(byStatus.get(status), from, to);
+    }
+
+    /**
+     * Returns up to {@code limit} scheduled events starting at or after {@code from}, ordered by start.
+     * @param from  The point in time to look forward from.
+     * @param limit The maximum number of events.
+     * @return The upcoming events.
+     */
+    public List<E> upcoming(LocalDateTime from, int limit) {
+        List<E> events = new ArrayList<>(Math.min(Math.max(limit, 0), 16));
+        if (limit <= 0) {
+            return events;
+        }
+        for (E event : byStatus.get(EventStatus.SCHEDULED).tailMap(Slot.lowest(from), true).values()) {
+            events.add(event);
+            if (events.size() == limit) {
+                break;
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Returns every indexed event, ordered by start.
+     * @return The events.
+     */
+    public List<E> all() {
+        return new ArrayList<>(timeline.values());
+    }
+
+    /**
+     * Finds the next event to start at or after {@code from}, whatever its status.
+     * @param from The point in time to look forward from.
+     * @return The next event, or an empty Optional if none is on the calendar.
+     */
+    public Optional<E> next(LocalDateTime from) {
+        Map.Entry<Slot, E> entry = timeline.ceilingEntry(Slot.lowest(from));
+        return entry == null ? Optional.empty() : Optional.of(entry.getValue());
+    }
+
+    public boolean contains(int eventID) {
+        return entries.containsKey(eventID);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void unindex(Entry entry) {
+        if (entry == null) {
+            return;
+        }
+        timeline.remove(entry.slot);
+        byVenue.computeIfPresent(entry.venueID, (venueID, venueEvents) -> {
+            venueEvents.remove(entry.slot);
+            return venueEvents.isEmpty() ? null : venueEvents;
+        });
+        if (entry.status != null) {
+            byStatus.get(entry.status).remove(entry.slot);
+        }
+    }
+
+    private List<E> slice(NavigableMap<Slot, E> events, LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(events.subMap(Slot.lowest(from), true, Slot.lowest(to), false).values());
+    }
+
+    /**
+     * Position on the calendar; the event ID breaks ties between events starting at the same moment.
+     */
+    private record Slot(LocalDateTime start, int eventID) implements Comparable<Slot> {
+        static Slot lowest(LocalDateTime start) {
+            return new Slot(start, Integer.MIN_VALUE);
+        }
+
+        @Override
+        public int compareTo(Slot other) {
+            int byStart = start.compareTo(other.start);
+            return byStart != 0 ? byStart : Integer.compare(eventID, other.eventID);
+        }
+    }
+
+    private record Entry(Slot slot, int venueID, EventStatus status) {
+    }
+}
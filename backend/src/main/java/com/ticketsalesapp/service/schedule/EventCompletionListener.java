@@ -0,0 +1,19 @@
+package com.ticketsalesapp.service.schedule;
+
+import com.ticketsalesapp.model.event.Event;
+
+import java.util.List;
+
+/**
+ * Receives the events the {@link EventLifecycleScheduler} has just moved to COMPLETED, so dependent data
+ * (open carts, unsold tickets) can be released or archived for the whole batch at once.
+ */
+@FunctionalInterface
+public interface EventCompletionListener {
+
+    /**
+     * Called once per scheduler tick with every event that completed during that tick.
+     * @param completedEvents The events, already marked as COMPLETED.
+     */
+    void onEventsCompleted(List<Event> completedEvents);
+}
@@ -0,0 +1,196 @@
+package com.ticketsalesapp.service.schedule;
+
+import com.ticketsalesapp.model.event.Event;
+import com.ticketsalesapp.model.event.EventStatus;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves scheduled events to COMPLETED once their end time has passed, without ever scanning all events.
+ * <p>
+ * Deadlines within the next {@value #WHEEL_SIZE} ticks sit in a timer wheel; a background thread visits one
+ * bucket per tick, so completing an event is O(1). Deadlines further out wait in an overflow map ordered by
+ * tick and are cascaded into the wheel once they come within its horizon. Rescheduling an event only
+ * replaces its deadline; the stale wheel entry is skipped when its bucket comes round. Inserting a deadline
+ * and draining a tick share one lock, so a deadline can never land in a bucket or overflow slot that is being
+ * drained and wait a full revolution.
+ * <p>
+ * The events completed in a tick are handed to every {@link EventCompletionListener} as one batch, outside
+ * the lock. A failing listener is logged and does not keep the others from being notified.
+ */
+@Component
+public class EventLifecycleScheduler implements AutoCloseable {
+    private static final Duration DEFAULT_TICK = Duration.ofMinutes(1);
+    private static final int WHEEL_SIZE = 1440;
+    private static final System.Logger LOGGER = System.getLogger(EventLifecycleScheduler.class.getName());
+
+    private final Map<EventKey, Deadline> deadlines = new ConcurrentHashMap<>();
+    private final Object wheelLock = new Object();
+    private final Queue<Deadline>[] wheel;
+    private final NavigableMap<Long, Queue<Deadline>> overflow = new TreeMap<>();
+    private final List<EventCompletionListener> listeners = new CopyOnWriteArrayList<>();
+    private final long tickMillis;
+    private final ScheduledExecutorService ticker;
+    private long currentTick;
+
+    private record EventKey(Class<?> type, int eventID) {
+    }
+
+    private record Deadline(EventKey key, Event event, long tick) {
+    }
+
+    @Autowired
+    public EventLifecycleScheduler(ObjectProvider<EventCompletionListener> listeners) {
+        this(DEFAULT_TICK);
+        listeners.orderedStream().forEach(this.listeners::add);
+    }
+
+    /**
+     * @param tick How often the wheel advances, i.e. how soon after its end an event is completed.
+     */
+    @SuppressWarnings("unchecked")
+    public EventLifecycleScheduler(Duration tick) {
+        if (tick.isNegative() || tick.isZero()) {
+            throw new IllegalArgumentException("Tick must be positive.");
+        }
+        this.tickMillis = tick.toMillis();
+        this.wheel = new Queue[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+        this.currentTick = System.currentTimeMillis() / tickMillis;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-lifecycle");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Registers a listener for completed events.
+     * @param listener The listener.
+     */
+    public void addListener(EventCompletionListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Starts tracking an event, or updates its deadline after it was rescheduled.
+     * Events that are not SCHEDULED or have no end time are no longer tracked.
+     * @param event The event.
+     */
+    public void track(Event event) {
+        EventKey key = new EventKey(event.getClass(), event.getId());
+        if (event.getEventStatus() != EventStatus.SCHEDULED || event.getEndDateTime() == null) {
+            deadlines.remove(key);
+            return;
+        }
+        long endTick = ceilTick(toEpochMilli(event.getEndDateTime()));
+        synchronized (wheelLock) {
+            Deadline deadline = new Deadline(key, event, Math.max(endTick, currentTick + 1));
+            deadlines.put(key, deadline);
+            schedule(deadline);
+        }
+    }
+
+    /**
+     * Stops tracking an event, e.g. when it is cancelled or deleted.
+     * @param event The event.
+     */
+    public void untrack(Event event) {
+        deadlines.remove(new EventKey(event.getClass(), event.getId()));
+    }
+
+    /**
+     * Returns the number of events waiting to complete.
+     */
+    public int size() {
+        return deadlines.size();
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+    /**
+     * Puts a deadline in its bucket, or in the overflow map if it is beyond the wheel's horizon.
+     * Must hold {@link #wheelLock}.
+     */
+    private void schedule(Deadline deadline) {
+        if (deadline.tick - currentTick < WHEEL_SIZE) {
+            wheel[(int) (deadline.tick % WHEEL_SIZE)].add(deadline);
+        } else {
+            overflow.computeIfAbsent(deadline.tick, tick -> new ArrayDeque<>()).add(deadline);
+        }
+    }
+
+    /**
+     * Advances one tick: cascades overflow deadlines that came within the wheel's horizon, then completes
+     * every live deadline in the current bucket and notifies the listeners with the batch.
+     */
+    private void advance() {
+        List<Event> completed = new ArrayList<>();
+        synchronized (wheelLock) {
+            long tick = ++currentTick;
+            Map.Entry<Long, Queue<Deadline>> due;
+            while ((due = overflow.firstEntry()) != null && due.getKey() - tick < WHEEL_SIZE) {
+                overflow.remove(due.getKey());
+                due.getValue().forEach(this::schedule);
+            }
+
+            Queue<Deadline> bucket = wheel[(int) (tick % WHEEL_SIZE)];
+            for (int pending = bucket.size(); pending > 0; pending--) {
+                Deadline deadline = bucket.poll();
+                if (deadline.tick > tick) {
+                    bucket.add(deadline);
+                } else if (deadlines.remove(deadline.key, deadline)
+                        && deadline.event.getEventStatus() == EventStatus.SCHEDULED) {
+                    deadline.event.setEventStatus(EventStatus.COMPLETED);
+                    completed.add(deadline.event);
+                }
+            }
+        }
+        if (!completed.isEmpty()) {
+            notifyListeners(Collections.unmodifiableList(completed));
+        }
+    }
+
+    private void notifyListeners(List<Event> completed) {
+        for (EventCompletionListener listener : listeners) {
+            try {
+                listener.onEventsCompleted(completed);
+            } catch (RuntimeException e) {
+                LOGGER.log(System.Logger.Level.ERROR, "Event completion listener " + listener.getClass().getName()
+                        + " failed for " + completed.size() + " completed events.", e);
+            }
+        }
+    }
+
+    private long ceilTick(long epochMilli) {
+        return Math.floorDiv(epochMilli + tickMillis - 1, tickMillis);
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,124 @@
+package com.ticketsalesapp.service.schedule;
+
+import java.util.Arrays;
+
+/**
+ * Compact hash set of primitive ints (open addressing with linear probing), used for ID adjacency lists.
+ * Avoids boxing every member into an Integer and keeps each set in a single array.
+ * Not thread-safe; owners guard it with their own lock.
+ */
+public class IntSet {
+    private static final int FREE = Integer.MIN_VALUE;
+    private static final int MIN_CAPACITY = 4;
+
+    private int[] slots;
+    private int size;
+
+    public IntSet() {
+        slots = newSlots(MIN_CAPACITY);
+    }
+
+    /**
+     * Adds a value to the set.
+     * @param value The value to add; {@link Integer#MIN_VALUE} is reserved and cannot be stored.
+     * @return true if the value was not already present.
+     */
+    public boolean add(int value) {
+        if (value == FREE) {
+            throw new IllegalArgumentException("Integer.MIN_VALUE cannot be stored in an IntSet");
+        }
+        int slot = find(value);
+        if (slots[slot] == value) {
+            return false;
+        }
+        slots[slot] = value;
+        if (++size * 4 > slots.length * 3) {
+            resize(slots.length * 2);
+        }
+        return true;
+    }
+
+    /**
+     * Removes a value from the set, shifting later entries of the same probe run back so lookups stay correct.
+     * @param value The value to remove.
+     * @return true if the value was present.
+     */
+    public boolean remove(int value) {
+        int slot = find(value);
+        if (slots[slot] != value || value == FREE) {
+            return false;
+        }
+        int mask = slots.length - 1;
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (slots[next] != FREE) {
+            int home = mix(slots[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                slots[gap] = slots[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        slots[gap] = FREE;
+        size--;
+        return true;
+    }
+
+    public boolean contains(int value) {
+        return value != FREE && slots[find(value)] == value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the members in ascending order.
+     * @return A new array holding every value in the set.
+     */
+    public int[] toArray() {
+        int[] values = new int[size];
+        int i = 0;
+        for (int value : slots) {
+            if (value != FREE) {
+                values[i++] = value;
+            }
+        }
+        Arrays.sort(values);
+        return values;
+    }
+
+    private int find(int value) {
+        int mask = slots.length - 1;
+        int slot = mix(value) & mask;
+        while (slots[slot] != FREE && slots[slot] != value) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize(int capacity) {
+        int[] old = slots;
+        slots = newSlots(capacity);
+        for (int value : old) {
+            if (value != FREE) {
+                slots[find(value)] = value;
+            }
+        }
+    }
+
+    private static int[] newSlots(int capacity) {
+        int[] slots = new int[capacity];
+        Arrays.fill(slots, FREE);
+        return slots;
+    }
+
+    private static int mix(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
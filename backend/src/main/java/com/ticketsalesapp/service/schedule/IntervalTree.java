@@ -0,0 +1,219 @@
+package com.ticketsalesapp.service.schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Balanced (AVL) interval tree over half-open ranges {@code [start, end)} tagged with an ID.
+ * Every node also stores the largest end in its subtree, so an overlap test prunes whole branches
+ * and costs O(log n), and listing all k overlaps costs O(log n + k).
+ * Not thread-safe; owners guard it with their own lock.
+ */
+public class IntervalTree {
+    private Node root;
+    private int size;
+
+    /**
+     * A stored range.
+     * @param start The inclusive start.
+     * @param end   The exclusive end.
+     * @param id    The ID the range belongs to.
+     */
+    public record Interval(long start, long end, int id) {
+        boolean overlaps(long otherStart, long otherEnd) {
+            return start < otherEnd && otherStart < end;
+        }
+    }
+
+    public void insert(long start, long end, int id) {
+        root = insert(root, new Interval(start, end, id));
+        size++;
+    }
+
+    /**
+     * Removes the range stored for an ID.
+     * @param start The start the range was inserted with.
+     * @param id    The ID the range belongs to.
+     * @return true if the range was present.
+     */
+    public boolean remove(long start, int id) {
+        int before = size;
+        root = remove(root, start, id);
+        return size < before;
+    }
+
+    /**
+     * Finds any stored range overlapping {@code [start, end)}, ignoring the one tagged with {@code ignoredID}.
+     * @param start     The inclusive start.
+     * @param end       The exclusive end.
+     * @param ignoredID An ID to skip, e.g. the event being rescheduled.
+     * @return The first overlapping range found, or null if there is none.
+     */
+    public Interval findOverlap(long start, long end, int ignoredID) {
+        return findOverlapIn(root, start, end, ignoredID);
+    }
+
+    /**
+     * Lists every stored range overlapping {@code [start, end)}, in start order.
+     * @param start The inclusive start.
+     * @param end   The exclusive end.
+     * @return The overlapping ranges.
+     */
+    public List<Interval> overlapping(long start, long end) {
+        List<Interval> found = new ArrayList<>();
+        collect(root, start, end, found);
+        return found;
+    }
+
+    /**
+     * Returns every stored range in start order.
+     * @return The ranges.
+     */
+    public List<Interval> toList() {
+        List<Interval> intervals = new ArrayList<>(size);
+        collect(root, Long.MIN_VALUE, Long.MAX_VALUE, intervals);
+        return intervals;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private Interval findOverlapIn(Node node, long start, long end, int ignoredID) {
+        if (node == null || node.maxEnd <= start) {
+            return null;
+        }
+        Interval found = findOverlapIn(node.left, start, end, ignoredID);
+        if (found != null) {
+            return found;
+        }
+        if (node.interval.overlaps(start, end) && node.interval.id() != ignoredID) {
+            return node.interval;
+        }
+        return node.interval.start() < end ? findOverlapIn(node.right, start, end, ignoredID) : null;
+    }
+
+    private void collect(Node node, long start, long end, List<Interval> found) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        collect(node.left, start, end, found);
+        if (node.interval.overlaps(start, end)) {
+            found.add(node.interval);
+        }
+        if (node.interval.start() < end) {
+            collect(node.right, start, end, found);
+        }
+    }
+
+    private static int compare(long start, int id, Interval interval) {
+        int byStart = Long.compare(start, interval.start());
+        return byStart != 0 ? byStart : Integer.compare(id, interval.id());
+    }
+
+    private Node insert(Node node, Interval interval) {
+        if (node == null) {
+            return new Node(interval);
+        }
+        if (compare(interval.start(), interval.id(), node.interval) < 0) {
+            node.left = insert(node.left, interval);
+        } else {
+            node.right = insert(node.right, interval);
+        }
+        return rebalance(node);
+    }
+
+    private Node remove(Node node, long start, int id) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, id, node.interval);
+        if (cmp < 0) {
+            node.left = remove(node.left, start, id);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, start, id);
+        } else {
+            size--;
+            if (node.left == null || node.right == null) {
+                return node.left != null ? node.left : node.right;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.interval = successor.interval;
+            size++;
+            node.right = remove(node.right, successor.interval.start(), successor.interval.id());
+        }
+        return rebalance(node);
+    }
+
+    private static Node rebalance(Node node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static final class Node {
+        private Interval interval;
+        private Node left;
+        private Node right;
+        private long maxEnd;
+        private int height;
+
+        private Node(Interval interval) {
+            this.interval = interval;
+            this.maxEnd = interval.end();
+            this.height = 1;
+        }
+
+        private void update() {
+            maxEnd = interval.end();
+            if (left != null && left.maxEnd > maxEnd) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd > maxEnd) {
+                maxEnd = right.maxEnd;
+            }
+            height = 1 + Math.max(height(left), height(right));
+        }
+    }
+}
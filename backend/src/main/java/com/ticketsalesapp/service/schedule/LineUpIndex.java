@@ -0,0 +1,147 @@
+package com.ticketsalesapp.service.schedule;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bidirectional many-to-many index between events and the performers on their line-up
+ * (concerts and artists, or sports events and athletes).
+ * Both directions are kept as primitive int sets, so reading a line-up or finding every event a performer
+ * appears at costs O(degree) instead of a scan over every line-up row.
+ */
+public class LineUpIndex {
+    private static final int[] NONE = new int[0];
+
+    private final Map<Integer, IntSet> performersByEvent = new HashMap<>();
+    private final Map<Integer, IntSet> eventsByPerformer = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Puts a performer on an event's line-up.
+     * @param eventID     The event's ID.
+     * @param performerID The performer's ID.
+     * @return true if the performer was not already on the line-up.
+     */
+    public boolean add(int eventID, int performerID) {
+        lock.writeLock().lock();
+        try {
+            if (!performersByEvent.computeIfAbsent(eventID, id -> new IntSet()).add(performerID)) {
+                return false;
+            }
+            eventsByPerformer.computeIfAbsent(performerID, id -> new IntSet()).add(eventID);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Takes a performer off an event's line-up.
+     * @param eventID     The event's ID.
+     * @param performerID The performer's ID.
+     * @return true if the performer was on the line-up.
+     */
+    public boolean remove(int eventID, int performerID) {
+        lock.writeLock().lock();
+        try {
+            if (!detach(performersByEvent, eventID, performerID)) {
+                return false;
+            }
+            detach(eventsByPerformer, performerID, eventID);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops an event and its whole line-up, e.g. when the event is deleted.
+     * @param eventID The event's ID.
+     * @return The IDs of the performers that were on the line-up.
+     */
+    public int[] removeEvent(int eventID) {
+        lock.writeLock().lock();
+        try {
+            return detachAll(performersByEvent, eventsByPerformer, eventID);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops a performer from every line-up, e.g. when the performer is deleted.
+     * @param performerID The performer's ID.
+     * @return The IDs of the events the performer was on.
+     */
+    public int[] removePerformer(int performerID) {
+        lock.writeLock().lock();
+        try {
+            return detachAll(eventsByPerformer, performersByEvent, performerID);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the line-up of an event.
+     * @param eventID The event's ID.
+     * @return The performer IDs in ascending order, empty if the event has no line-up.
+     */
+    public int[] performersOf(int eventID) {
+        return members(performersByEvent, eventID);
+    }
+
+    /**
+     * Returns every event a performer is on the line-up of.
+     * @param performerID The performer's ID.
+     * @return The event IDs in ascending order, empty if the performer is not booked anywhere.
+     */
+    public int[] eventsOf(int performerID) {
+        return members(eventsByPerformer, performerID);
+    }
+
+    public boolean contains(int eventID, int performerID) {
+        lock.readLock().lock();
+        try {
+            IntSet performers = performersByEvent.get(eventID);
+            return performers != null && performers.contains(performerID);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int[] members(Map<Integer, IntSet> adjacency, int id) {
+        lock.readLock().lock();
+        try {
+            IntSet members = adjacency.get(id);
+            return members == null ? NONE : members.toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean detach(Map<Integer, IntSet> adjacency, int from, int to) {
+        IntSet members = adjacency.get(from);
+        if (members == null || !members.remove(to)) {
+            return false;
+        }
+        if (members.isEmpty()) {
+            adjacency.remove(from);
+        }
+        return true;
+    }
+
+    private static int[] detachAll(Map<Integer, IntSet> adjacency, Map<Integer, IntSet> reverse, int id) {
+        IntSet members = adjacency.remove(id);
+        if (members == null) {
+            return NONE;
+        }
+        int[] detached = members.toArray();
+        for (int other : detached) {
+            detach(reverse, other, id);
+        }
+        return detached;
+    }
+}
@@ -0,0 +1,199 @@
+package com.ticketsalesapp.service.schedule;
+
+import com.ticketsalesapp.exception.BusinessLogicException;
+import com.ticketsalesapp.exception.ValidationException;
+import com.ticketsalesapp.model.event.Event;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Time-ordered schedule of every performer (typically athletes in a tournament), one interval tree each.
+ * Checking whether a performer is free for a time range costs O(log n), and a performer's upcoming
+ * schedule is read in one lookup, instead of walking every line-up row and loading every event.
+ * The event-to-performer side is kept in the owner's {@link LineUpIndex}, so line-ups are also read in
+ * O(degree) and there is only one copy of them. Line-up changes must go through this index, or the
+ * schedules fall out of step with it.
+ */
+public class PerformerScheduleIndex {
+    private final Map<Integer, IntervalTree> schedules = new HashMap<>();
+    private final Map<Integer, Slot> slots = new HashMap<>();
+    private final LineUpIndex lineUps;
+
+    private record Slot(long start, long end) {
+    }
+
+    /**
+     * @param lineUps The line-up index this schedule keeps up to date.
+     */
+    public PerformerScheduleIndex(LineUpIndex lineUps) {
+        this.lineUps = lineUps;
+    }
+
+    /**
+     * Puts a performer on an event, after checking they have no other event at the same time.
+     * @param performerID The performer's ID.
+     * @param event       The event.
+     * @return true if the performer was added; false if they were already on the event.
+     * @throws BusinessLogicException If the performer is already booked for an overlapping event.
+     */
+    public synchronized boolean assign(int performerID, Event event) {
+        int eventID = event.getId();
+        Slot slot = slotOf(event);
+        Slot known = slots.get(eventID);
+        if (known != null && !known.equals(slot)) {
+            throw new BusinessLogicException("Event " + eventID + " was rescheduled; call reschedule first.");
+        }
+        if (lineUps.contains(eventID, performerID)) {
+            return false;
+        }
+        checkFree(performerID, slot, eventID);
+        slots.put(eventID, slot);
+        lineUps.add(eventID, performerID);
+        schedules.computeIfAbsent(performerID, id -> new IntervalTree()).insert(slot.start, slot.end, eventID);
+        return true;
+    }
+
+    /**
+     * Takes a performer off an event.
+     * @param performerID The performer's ID.
+     * @param eventID     The event's ID.
+     * @return true if the performer was on the event.
+     */
+    public synchronized boolean unassign(int performerID, int eventID) {
+        if (!lineUps.remove(eventID, performerID)) {
+            return false;
+        }
+        Slot slot = slots.get(eventID);
+        removeFromSchedule(performerID, slot, eventID);
+        if (lineUps.performersOf(eventID).length == 0) {
+            slots.remove(eventID);
+        }
+        return true;
+    }
+
+    /**
+     * Moves an event to its new time in the schedule of every performer on it. Either every performer is
+     * moved, or, if any of them has a clash at the new time, nobody is.
+     * @param event The event, already carrying its new start and end.
+     * @throws BusinessLogicException If a performer on the event is busy at the new time.
+     */
+    public synchronized void reschedule(Event event) {
+        int eventID = event.getId();
+        Slot previous = slots.get(eventID);
+        if (previous == null) {
+            return;
+        }
+        Slot slot = slotOf(event);
+        int[] performers = lineUps.performersOf(eventID);
+        for (int performerID : performers) {
+            checkFree(performerID, slot, eventID);
+        }
+        for (int performerID : performers) {
+            IntervalTree schedule = schedules.get(performerID);
+            schedule.remove(previous.start, eventID);
+            schedule.insert(slot.start, slot.end, eventID);
+        }
+        slots.put(eventID, slot);
+    }
+
+    /**
+     * Drops an event from every performer's schedule, e.g. when it is cancelled or deleted.
+     * @param eventID The event's ID.
+     */
+    public synchronized void removeEvent(int eventID) {
+        Slot slot = slots.remove(eventID);
+        for (int performerID : lineUps.removeEvent(eventID)) {
+            removeFromSchedule(performerID, slot, eventID);
+        }
+    }
+
+    /**
+     * Checks whether a performer has no event overlapping a time range.
+     * @param performerID The performer's ID.
+     * @param start       The start of the range.
+     * @param end         The end of the range.
+     * @return true if the performer is free for the whole range.
+     * @throws ValidationException If either bound is null or the range does not start before it ends.
+     */
+    public synchronized boolean isFree(int performerID, LocalDateTime start, LocalDateTime end) {
+        Slot slot = slotOf(start, end);
+        IntervalTree schedule = schedules.get(performerID);
+        return schedule == null || schedule.findOverlap(slot.start, slot.end, 0) == null;
+    }
+
+    /**
+     * Returns the performer's events that have not ended by {@code from}, in start order.
+     * @param performerID The performer's ID.
+     * @param from        The point in time to look forward from.
+     * @param limit       The maximum number of events.
+     * @return The event IDs.
+     */
+    public synchronized int[] upcoming(int performerID, LocalDateTime from, int limit) {
+        IntervalTree schedule = schedules.get(performerID);
+        if (schedule == null || limit <= 0) {
+            return new int[0];
+        }
+        List<IntervalTree.Interval> ahead = schedule.overlapping(toEpochSecond(from), Long.MAX_VALUE);
+        return ahead.stream().limit(limit).mapToInt(IntervalTree.Interval::id).toArray();
+    }
+
+    /**
+     * Returns the performers on an event.
+     * @param eventID The event's ID.
+     * @return The performer IDs in ascending order.
+     */
+    public int[] performersOf(int eventID) {
+        return lineUps.performersOf(eventID);
+    }
+
+    /**
+     * Returns every event a performer is on, whatever its date.
+     * @param performerID The performer's ID.
+     * @return The event IDs in ascending order.
+     */
+    public int[] eventsOf(int performerID) {
+        return lineUps.eventsOf(performerID);
+    }
+
+    private void checkFree(int performerID, Slot slot, int eventID) {
+        IntervalTree schedule = schedules.get(performerID);
+        IntervalTree.Interval overlap = schedule == null ? null : schedule.findOverlap(slot.start, slot.end, eventID);
+        if (overlap != null) {
+            throw new BusinessLogicException("Performer " + performerID + " is already booked for event "
+                    + overlap.id() + " at that time.");
+        }
+    }
+
+    private void removeFromSchedule(int performerID, Slot slot, int eventID) {
+        IntervalTree schedule = schedules.get(performerID);
+        if (schedule == null || slot == null) {
+            return;
+        }
+        schedule.remove(slot.start, eventID);
+        if (schedule.isEmpty()) {
+            schedules.remove(performerID);
+        }
+    }
+
+    private static Slot slotOf(Event event) {
+        return slotOf(event.getStartDateTime(), event.getEndDateTime());
+    }
+
+    private static Slot slotOf(LocalDateTime start, LocalDateTime end) {
+        if (start == null || end == null) {
+            throw new ValidationException("Event dates cannot be null");
+        }
+        if (!start.isBefore(end)) {
+            throw new ValidationException("Start date must be before end date");
+        }
+        return new Slot(toEpochSecond(start), toEpochSecond(end));
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,182 @@
+package com.ticketsalesapp.service.schedule;
+
+import com.ticketsalesapp.exception.BusinessLogicException;
+import com.ticketsalesapp.exception.ValidationException;
+import com.ticketsalesapp.model.event.Event;
+import com.ticketsalesapp.model.event.EventStatus;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the time each venue is booked for, one interval tree per venue, so a new or rescheduled event
+ * can be checked against the venue's other events in O(log n) instead of scanning every event.
+ * Cancelled events do not hold their venue.
+ */
+public class VenueBookingIndex {
+    private final Map<Integer, IntervalTree> bookingsByVenue = new ConcurrentHashMap<>();
+    private final Map<Integer, Booking> bookings = new ConcurrentHashMap<>();
+
+    /**
+     * Two events whose bookings at the same venue overlap.
+     * @param venueID       The venue's ID.
+     * @param firstEventID  The event that starts first.
+     * @param secondEventID The event that starts later (or at the same time, with the higher ID).
+     * @param start         When the first event starts, in epoch seconds (UTC).
+     */
+    public record BookingConflict(int venueID, int firstEventID, int secondEventID, long start) {
+    }
+
+    private record Booking(int venueID, long start, long end) {
+    }
+
+    /**
+     * Books the event's venue for its time range, or moves the booking after the event was rescheduled.
+     * Cancelled events release their booking instead.
+     * @param event The event to book.
+     * @throws BusinessLogicException If the venue is already booked by another event during that time;
+     *                                the event's previous booking, if any, is kept.
+     */
+    public void book(Event event) {
+        place(event, true);
+    }
+
+    /**
+     * Records the event's booking without rejecting overlaps, e.g. when loading events that were stored
+     * before bookings were checked. Overlaps recorded this way show up in {@link #findAllConflicts()}.
+     * @param event The event to record.
+     */
+    public void record(Event event) {
+        place(event, false);
+    }
+
+    /**
+     * Releases the booking held by an event.
+     * @param eventID The event's ID.
+     */
+    public void release(int eventID) {
+        Booking booking = bookings.get(eventID);
+        if (booking == null) {
+            return;
+        }
+        IntervalTree venueBookings = bookingsByVenue.get(booking.venueID);
+        synchronized (venueBookings) {
+            if (bookings.remove(eventID, booking)) {
+                venueBookings.remove(booking.start, eventID);
+            }
+        }
+    }
+
+    /**
+     * Finds an event that already holds the venue during the given time range.
+     * @param venueID        The venue's ID.
+     * @param startDateTime  The start of the range.
+     * @param endDateTime    The end of the range.
+     * @param ignoredEventID An event to ignore, e.g. the one being rescheduled; pass 0 to check against all.
+     * @return The ID of a conflicting event, or an empty Optional if the venue is free.
+     */
+    public Optional<Integer> findConflict(int venueID, LocalDateTime startDateTime, LocalDateTime endDateTime,
+                                          int ignoredEventID) {
+        if (startDateTime == null || endDateTime == null) {
+            throw new ValidationException("Event dates cannot be null");
+        }
+        IntervalTree venueBookings = bookingsByVenue.get(venueID);
+        if (venueBookings == null) {
+            return Optional.empty();
+        }
+        synchronized (venueBookings) {
+            IntervalTree.Interval overlap = venueBookings.findOverlap(toEpochSecond(startDateTime),
+                    toEpochSecond(endDateTime), ignoredEventID);
+            return overlap == null ? Optional.empty() : Optional.of(overlap.id());
+        }
+    }
+
+    /**
+     * Lists every pair of overlapping bookings. Venues are checked in parallel; within a venue the bookings
+     * are swept in start order, so each venue costs O(n + k) for n bookings and k conflicts.
+     * @return The conflicts, ordered by venue and then by the first event's start.
+     */
+    public List<BookingConflict> findAllConflicts() {
+        return bookingsByVenue.entrySet().parallelStream()
+                .flatMap(entry -> conflictsAt(entry.getKey(), entry.getValue()).stream())
+                .sorted(Comparator.comparingInt(BookingConflict::venueID)
+                        .thenComparingLong(BookingConflict::start))
+                .toList();
+    }
+
+    public boolean isBooked(int eventID) {
+        return bookings.containsKey(eventID);
+    }
+
+    private void place(Event event, boolean rejectOverlaps) {
+        int eventID = event.getId();
+        if (event.getEventStatus() == EventStatus.CANCELLED) {
+            release(eventID);
+            return;
+        }
+        if (event.getStartDateTime() == null || event.getEndDateTime() == null
+                || !event.getStartDateTime().isBefore(event.getEndDateTime())) {
+            throw new ValidationException("Start date must be before end date");
+        }
+        Booking booking = new Booking(event.getVenueID(), toEpochSecond(event.getStartDateTime()),
+                toEpochSecond(event.getEndDateTime()));
+        Booking previous = bookings.get(eventID);
+        if (previous != null && previous.venueID != booking.venueID) {
+            IntervalTree target = bookingsByVenue.computeIfAbsent(booking.venueID, venueID -> new IntervalTree());
+            synchronized (target) {
+                checkFree(target, booking, eventID, rejectOverlaps);
+                target.insert(booking.start, booking.end, eventID);
+                bookings.put(eventID, booking);
+            }
+            IntervalTree source = bookingsByVenue.get(previous.venueID);
+            synchronized (source) {
+                source.remove(previous.start, eventID);
+            }
+            return;
+        }
+        IntervalTree venueBookings = bookingsByVenue.computeIfAbsent(booking.venueID, venueID -> new IntervalTree());
+        synchronized (venueBookings) {
+            checkFree(venueBookings, booking, eventID, rejectOverlaps);
+            if (previous != null) {
+                venueBookings.remove(previous.start, eventID);
+            }
+            venueBookings.insert(booking.start, booking.end, eventID);
+            bookings.put(eventID, booking);
+        }
+    }
+
+    private static void checkFree(IntervalTree venueBookings, Booking booking, int eventID, boolean rejectOverlaps) {
+        if (!rejectOverlaps) {
+            return;
+        }
+        IntervalTree.Interval overlap = venueBookings.findOverlap(booking.start, booking.end, eventID);
+        if (overlap != null) {
+            throw new BusinessLogicException("Venue is already booked by event " + overlap.id() + " at that time.");
+        }
+    }
+
+    private static List<BookingConflict> conflictsAt(int venueID, IntervalTree venueBookings) {
+        List<IntervalTree.Interval> ordered;
+        synchronized (venueBookings) {
+            ordered = venueBookings.toList();
+        }
+        List<BookingConflict> conflicts = new ArrayList<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            IntervalTree.Interval first = ordered.get(i);
+            for (int j = i + 1; j < ordered.size() && ordered.get(j).start() < first.end(); j++) {
+                conflicts.add(new BookingConflict(venueID, first.id(), ordered.get(j).id(), first.start()));
+            }
+        }
+        return conflicts;
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,96 @@
+package com.ticketsalesapp.service.search;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maintained facet aggregate: for every value of a field (e.g. a genre), the IDs of the entities that have it.
+ * Values are matched case-insensitively and shown with the spelling they were first added with.
+ * Counts come straight from the member sets, so rendering a facet list never touches the repository.
+ */
+public class FacetIndex {
+    private final Map<String, Facet> facets = new ConcurrentHashMap<>();
+
+    /**
+     * Records that an entity has a facet value.
+     * @param value The facet value.
+     * @param id    The entity's ID.
+     */
+    public void add(String value, int id) {
+        facets.compute(fold(value), (key, facet) -> {
+            Facet target = facet == null ? new Facet(value.trim()) : facet;
+            target.members.add(id);
+            return target;
+        });
+    }
+
+    /**
+     * Records that an entity no longer has a facet value. Values left without members disappear.
+     * @param value The facet value.
+     * @param id    The entity's ID.
+     */
+    public void remove(String value, int id) {
+        facets.computeIfPresent(fold(value), (key, facet) -> {
+            facet.members.remove(id);
+            return facet.members.isEmpty() ? null : facet;
+        });
+    }
+
+    /**
+     * Moves an entity from one facet value to another.
+     * @param oldValue The value the entity had.
+     * @param newValue The value the entity has now.
+     * @param id       The entity's ID.
+     */
+    public void move(String oldValue, String newValue, int id) {
+        if (fold(oldValue).equals(fold(newValue))) {
+            return;
+        }
+        remove(oldValue, id);
+        add(newValue, id);
+    }
+
+    /**
+     * Returns the IDs of the entities with a facet value.
+     * @param value The facet value.
+     * @return A snapshot of the member IDs, empty if nobody has the value.
+     */
+    public Set<Integer> members(String value) {
+        Facet facet = value == null ? null : facets.get(fold(value));
+        return facet == null ? Set.of() : Set.copyOf(facet.members);
+    }
+
+    public int count(String value) {
+        Facet facet = value == null ? null : facets.get(fold(value));
+        return facet == null ? 0 : facet.members.size();
+    }
+
+    /**
+     * Returns every facet value with its number of members, sorted alphabetically.
+     * @return A map from facet value to member count.
+     */
+    public Map<String, Integer> counts() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        facets.values().stream()
+                .sorted(Comparator.comparing(facet -> facet.name, String.CASE_INSENSITIVE_ORDER))
+                .forEach(facet -> counts.put(facet.name, facet.members.size()));
+        return counts;
+    }
+
+    private static String fold(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Facet {
+        private final String name;
+        private final Set<Integer> members = ConcurrentHashMap.newKeySet();
+
+        private Facet(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.ticketsalesapp.service.search;
+
+import com.ticketsalesapp.model.user.FavouriteEntity;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * BK-tree over performer names, for "did you mean" searches such as "Coldpaly" finding "Coldplay".
+ * <p>
+ * Every child of a node sits at a fixed Levenshtein distance from it. By the triangle inequality, a query with
+ * tolerance {@code k} at distance {@code d} from a node can only match inside children keyed {@code d-k..d+k},
+ * so most of the tree is never compared against. Removals leave empty nodes behind as tombstones;
+ * the tree is rebuilt once they make up half of it.
+ *
+ * @param <T> The indexed performer type (artist or athlete).
+ */
+public class FuzzyNameIndex<T extends FavouriteEntity> {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node<T> root;
+    private int nodes;
+    private int emptyNodes;
+
+    public void add(T entity) {
+        lock.writeLock().lock();
+        try {
+            insert(fold(entity.getName()), entity);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a performer indexed under the given name.
+     * @param name   The name the performer was indexed under.
+     * @param entity The performer to remove.
+     */
+    public void remove(String name, T entity) {
+        lock.writeLock().lock();
+        try {
+            Node<T> node = findNode(fold(name));
+            if (node != null && node.entities.remove(entity) && node.entities.isEmpty()) {
+                emptyNodes++;
+                if (emptyNodes * 2 > nodes) {
+                    rebuild();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Moves a performer from its old name to its new one.
+     * @param oldName The name the performer was indexed under.
+     * @param entity  The performer, already carrying its new name.
+     */
+    public void rename(String oldName, T entity) {
+        lock.writeLock().lock();
+        try {
+            remove(oldName, entity);
+            insert(fold(entity.getName()), entity);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds performers whose names are within {@code maxDistance} edits of the query.
+     * @param query       The (possibly misspelled) name searched for.
+     * @param maxDistance The maximum Levenshtein distance accepted.
+     * @param limit       The maximum number of matches returned.
+     * @return The matches, closest first, ties broken alphabetically.
+     */
+    public List<SearchMatch<T>> search(String query, int maxDistance, int limit) {
+        List<SearchMatch<T>> matches = new ArrayList<>();
+        if (query == null || query.isBlank() || maxDistance < 0 || limit <= 0) {
+            return matches;
+        }
+        String key = fold(query);
+        lock.readLock().lock();
+        try {
+            if (root == null) {
+                return matches;
+            }
+            Deque<Node<T>> pending = new ArrayDeque<>();
+            pending.push(root);
+            while (!pending.isEmpty()) {
+                Node<T> node = pending.pop();
+                int distance = levenshtein(key, node.key);
+                if (distance <= maxDistance) {
+                    for (T entity : node.entities) {
+                        matches.add(new SearchMatch<>(entity, distance));
+                    }
+                }
+                for (Map.Entry<Integer, Node<T>> child : node.children.entrySet()) {
+                    if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                        pending.push(child.getValue());
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        matches.sort(Comparator.<SearchMatch<T>>comparingInt(SearchMatch::distance)
+                .thenComparing(match -> match.entity().getName(), String.CASE_INSENSITIVE_ORDER));
+        return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    }
+
+    private void insert(String key, T entity) {
+        if (root == null) {
+            root = new Node<>(key);
+            root.entities.add(entity);
+            nodes = 1;
+            return;
+        }
+        Node<T> node = root;
+        while (true) {
+            int distance = levenshtein(key, node.key);
+            if (distance == 0) {
+                if (node.entities.isEmpty()) {
+                    emptyNodes--;
+                }
+                node.entities.add(entity);
+                return;
+            }
+            Node<T> child = node.children.get(distance);
+            if (child == null) {
+                child = new Node<>(key);
+                child.entities.add(entity);
+                node.children.put(distance, child);
+                nodes++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    private Node<T> findNode(String key) {
+        Node<T> node = root;
+        while (node != null) {
+            int distance = levenshtein(key, node.key);
+            if (distance == 0) {
+                return node;
+            }
+            node = node.children.get(distance);
+        }
+        return null;
+    }
+
+    private void rebuild() {
+        List<Node<T>> live = new ArrayList<>();
+        Deque<Node<T>> pending = new ArrayDeque<>();
+        if (root != null) {
+            pending.push(root);
+        }
+        while (!pending.isEmpty()) {
+            Node<T> node = pending.pop();
+            if (!node.entities.isEmpty()) {
+                live.add(node);
+            }
+            node.children.values().forEach(pending::push);
+        }
+        root = null;
+        nodes = 0;
+        emptyNodes = 0;
+        for (Node<T> node : live) {
+            for (T entity : node.entities) {
+                insert(node.key, entity);
+            }
+        }
+    }
+
+    private static int levenshtein(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (ca == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private static String fold(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Node<T> {
+        private final String key;
+        private final List<T> entities = new ArrayList<>(1);
+        private final Map<Integer, Node<T>> children = new HashMap<>();
+
+        private Node(String key) {
+            this.key = key;
+        }
+    }
+}
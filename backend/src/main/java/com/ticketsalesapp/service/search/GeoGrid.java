@@ -0,0 +1,183 @@
+package com.ticketsalesapp.service.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Uniform latitude/longitude grid of points tagged with an ID, for "within N km" queries.
+ * A query only looks at the cells covering the search circle's bounding box and then filters by
+ * great-circle distance, so its cost depends on the number of nearby points rather than on the total.
+ * Longitudes are normalized into [0, 360) and the last column of a row may be narrower than the others, so
+ * a search circle crossing the antimeridian finds points on both sides.
+ */
+public class GeoGrid {
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+    private final double cellDegrees;
+    private final int columns;
+    private final Map<Long, Set<Integer>> cells = new ConcurrentHashMap<>();
+    private final Map<Integer, Point> points = new ConcurrentHashMap<>();
+
+    /**
+     * A point found by a query.
+     * @param id         The point's ID.
+     * @param distanceKm The distance from the query's centre, in kilometres.
+     */
+    public record Nearby(int id, double distanceKm) {
+    }
+
+    private record Point(double latitude, double longitude, long cell) {
+    }
+
+    /**
+     * @param cellKm The approximate edge of a grid cell, in kilometres; roughly the typical search radius.
+     */
+    public GeoGrid(double cellKm) {
+        if (!(cellKm > 0)) {
+            throw new IllegalArgumentException("Cell size must be positive.");
+        }
+        this.cellDegrees = cellKm / KM_PER_DEGREE;
+        this.columns = (int) Math.ceil(360 / cellDegrees);
+    }
+
+    /**
+     * Places a point on the grid, or moves it if it was already there.
+     * @param id        The point's ID.
+     * @param latitude  The latitude in degrees, between -90 and 90.
+     * @param longitude The longitude in degrees, between -180 and 180.
+     */
+    public void put(int id, double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Coordinates out of range.");
+        }
+        Point point = new Point(latitude, longitude, cellOf(latitude, longitude));
+        Point previous = points.put(id, point);
+        if (previous != null) {
+            leave(previous.cell, id);
+        }
+        cells.computeIfAbsent(point.cell, cell -> ConcurrentHashMap.newKeySet()).add(id);
+    }
+
+    public void remove(int id) {
+        Point previous = points.remove(id);
+        if (previous != null) {
+            leave(previous.cell, id);
+        }
+    }
+
+    /**
+     * Finds the points within a radius of a location.
+     * @param latitude  The centre's latitude in degrees.
+     * @param longitude The centre's longitude in degrees.
+     * @param radiusKm  The radius in kilometres.
+     * @return The points within the radius, nearest first.
+     */
+    public List<Nearby> within(double latitude, double longitude, double radiusKm) {
+        List<Nearby> found = new ArrayList<>();
+        if (!(radiusKm >= 0)) {
+            return found;
+        }
+        double latSpan = radiusKm / KM_PER_DEGREE;
+        double farthestLat = Math.abs(latitude) + latSpan;
+        // a circle reaching a pole covers every longitude
+        double lonSpan = farthestLat >= 90 ? 180.0 : Math.toDegrees(Math.asin(
+                Math.sin(radiusKm / EARTH_RADIUS_KM) / Math.cos(Math.toRadians(latitude))));
+        int fromRow = row(Math.max(-90, latitude - latSpan));
+        int toRow = row(Math.min(90, latitude + latSpan));
+        double west = normalize(longitude) - lonSpan;
+        double east = normalize(longitude) + lonSpan;
+        int fromColumn = column(west);
+        int toColumn = column(east);
+        boolean wraps = west < 0 || east >= 360;
+        // a wrapped range whose ends meet in the same or overlapping columns covers the whole row
+        boolean wholeRow = east - west >= 360 || (wraps && toColumn >= fromColumn);
+        for (int r = fromRow; r <= toRow; r++) {
+            if (wholeRow) {
+                collect(r, 0, columns - 1, latitude, longitude, radiusKm, found);
+            } else if (wraps) {
+                collect(r, fromColumn, columns - 1, latitude, longitude, radiusKm, found);
+                collect(r, 0, toColumn, latitude, longitude, radiusKm, found);
+            } else {
+                collect(r, fromColumn, toColumn, latitude, longitude, radiusKm, found);
+            }
+        }
+        found.sort(Comparator.comparingDouble(Nearby::distanceKm));
+        return found;
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    /**
+     * Great-circle distance between two points (haversine formula).
+     * @return The distance in kilometres.
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private void leave(long cell, int id) {
+        cells.computeIfPresent(cell, (key, members) -> {
+            members.remove(id);
+            return members.isEmpty() ? null : members;
+        });
+    }
+
+    private void collect(int row, int fromColumn, int toColumn, double latitude, double longitude,
+                         double radiusKm, List<Nearby> found) {
+        for (int c = fromColumn; c <= toColumn; c++) {
+            Set<Integer> members = cells.get(key(row, c));
+            if (members == null) {
+                continue;
+            }
+            for (int id : members) {
+                Point point = points.get(id);
+                if (point == null) {
+                    continue;
+                }
+                double distance = distanceKm(latitude, longitude, point.latitude, point.longitude);
+                if (distance <= radiusKm) {
+                    found.add(new Nearby(id, distance));
+                }
+            }
+        }
+    }
+
+    private long cellOf(double latitude, double longitude) {
+        return key(row(latitude), column(longitude));
+    }
+
+    private int row(double latitude) {
+        return (int) Math.floor((latitude + 90) / cellDegrees);
+    }
+
+    /**
+     * @param longitude Any longitude, in degrees.
+     * @return The column holding it, between 0 and {@code columns - 1}.
+     */
+    private int column(double longitude) {
+        return Math.min(columns - 1, (int) Math.floor(normalize(longitude) / cellDegrees));
+    }
+
+    /**
+     * Maps a longitude into [0, 360), with -180 and 180 both at 180.
+     */
+    private static double normalize(double longitude) {
+        double normalized = longitude % 360;
+        return normalized < 0 ? normalized + 360 : normalized;
+    }
+
+    private static long key(int row, int column) {
+        return ((long) row << 32) | (column & 0xffffffffL);
+    }
+}
@@ -0,0 +1,99 @@
+package com.ticketsalesapp.service.search;
+
+import com.ticketsalesapp.model.user.FavouriteEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Sorted, case-insensitive index of performer names.
+ * Exact lookups and prefix (typeahead) queries are answered in O(log n + k) from a skip list,
+ * instead of scanning every performer.
+ *
+ * @param <T> The indexed performer type (artist or athlete).
+ */
+public class NameIndex<T extends FavouriteEntity> {
+    private final NavigableMap<String, T> byName = new ConcurrentSkipListMap<>();
+
+    /**
+     * Adds a performer under its current name.
+     * @param entity The performer to add.
+     * @return true if the name was free; false if another performer already uses it.
+     */
+    public boolean add(T entity) {
+        return byName.putIfAbsent(fold(entity.getName()), entity) == null;
+    }
+
+    /**
+     * Removes a performer's name from the index.
+     * @param name The name the performer was indexed under.
+     */
+    public void remove(String name) {
+        byName.remove(fold(name));
+    }
+
+    /**
+     * Moves a performer from its old name to its new one. The new name is claimed before the old one is
+     * given up, so two performers renamed to the same name at once cannot both get it.
+     * @param oldName The name the performer is indexed under.
+     * @param newName The name to move the performer to.
+     * @param entity  The performer.
+     * @return true if the performer now has the new name; false if another performer already uses it,
+     *         in which case the index is unchanged.
+     */
+    public boolean rename(String oldName, String newName, T entity) {
+        String from = fold(oldName);
+        String to = fold(newName);
+        if (from.equals(to)) {
+            return true;
+        }
+        T holder = byName.putIfAbsent(to, entity);
+        if (holder != null && holder != entity) {
+            return false;
+        }
+        byName.remove(from, entity);
+        return true;
+    }
+
+    /**
+     * Finds a performer by its exact name, ignoring case.
+     * @param name The name to look up.
+     * @return The performer, or an empty Optional if nobody has that name.
+     */
+    public Optional<T> find(String name) {
+        return name == null ? Optional.empty() : Optional.ofNullable(byName.get(fold(name)));
+    }
+
+    /**
+     * Returns up to {@code limit} performers whose names start with the given prefix, in alphabetical order.
+     * @param prefix The text typed so far.
+     * @param limit  The maximum number of suggestions.
+     * @return The matching performers.
+     */
+    public List<T> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        List<T> suggestions = new ArrayList<>(Math.min(limit, 16));
+        String from = fold(prefix);
+        for (T entity : byName.subMap(from, true, from + Character.MAX_VALUE, false).values()) {
+            suggestions.add(entity);
+            if (suggestions.size() == limit) {
+                break;
+            }
+        }
+        return suggestions;
+    }
+
+    public int size() {
+        return byName.size();
+    }
+
+    private static String fold(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
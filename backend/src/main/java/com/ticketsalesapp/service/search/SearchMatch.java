@@ -0,0 +1,13 @@
+package com.ticketsalesapp.service.search;
+
+import com.ticketsalesapp.model.user.FavouriteEntity;
+
+/**
+ * A fuzzy search hit: the matching performer and how many single-character edits separate its name from the query.
+ *
+ * @param entity   The matching performer.
+ * @param distance The edit distance between the query and the performer's name.
+ * @param <T>      The performer type.
+ */
+public record SearchMatch<T extends FavouriteEntity>(T entity, int distance) {
+}
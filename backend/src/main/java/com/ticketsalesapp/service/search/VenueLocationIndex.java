@@ -0,0 +1,167 @@
+package com.ticketsalesapp.service.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Venue lookup by name and by location, replacing the full scans with {@code equalsIgnoreCase}.
+ * Names are matched exactly (ignoring case); locations are split into normalised tokens, so "Cluj" finds a
+ * venue in "Cluj-Napoca, Romania" and "cluj napoca" finds it too. Venues that have coordinates are also
+ * placed on a {@link GeoGrid} for "venues within N km" queries.
+ */
+public class VenueLocationIndex {
+    private static final double DEFAULT_CELL_KM = 25.0;
+
+    private final Map<String, Set<Integer>> byName = new ConcurrentSkipListMap<>();
+    private final Map<String, Set<Integer>> byLocationToken = new ConcurrentSkipListMap<>();
+    private final Map<Integer, Entry> entries = new ConcurrentHashMap<>();
+    private final GeoGrid grid;
+
+    private record Entry(String name, Set<String> locationTokens) {
+    }
+
+    public VenueLocationIndex() {
+        this(DEFAULT_CELL_KM);
+    }
+
+    /**
+     * @param cellKm The edge of a geo grid cell, in kilometres.
+     */
+    public VenueLocationIndex(double cellKm) {
+        this.grid = new GeoGrid(cellKm);
+    }
+
+    /**
+     * Adds a venue, or re-indexes it after its name or location changed.
+     * @param venueID  The venue's ID.
+     * @param name     The venue's name.
+     * @param location The venue's location, e.g. "Cluj-Napoca, Romania".
+     */
+    public synchronized void put(int venueID, String name, String location) {
+        unindex(venueID, entries.remove(venueID));
+        Entry entry = new Entry(fold(name), tokens(location));
+        addPosting(byName, entry.name, venueID);
+        entry.locationTokens.forEach(token -> addPosting(byLocationToken, token, venueID));
+        entries.put(venueID, entry);
+    }
+
+    /**
+     * Places a venue on the geo grid, or moves it; a venue without coordinates is taken off the grid.
+     * @param venueID   The venue's ID.
+     * @param latitude  The latitude in degrees, or null if unknown.
+     * @param longitude The longitude in degrees, or null if unknown.
+     */
+    public void locate(int venueID, Double latitude, Double longitude) {
+        if (latitude == null || longitude == null) {
+            grid.remove(venueID);
+        } else {
+            grid.put(venueID, latitude, longitude);
+        }
+    }
+
+    public synchronized void remove(int venueID) {
+        unindex(venueID, entries.remove(venueID));
+        grid.remove(venueID);
+    }
+
+    /**
+     * Finds the venues with a given name, ignoring case and surrounding spaces.
+     * @param name The name to look up.
+     * @return The venue IDs in ascending order.
+     */
+    public List<Integer> findByName(String name) {
+        if (name == null || name.isBlank()) {
+            return new ArrayList<>();
+        }
+        return sorted(byName.get(fold(name)));
+    }
+
+    /**
+     * Finds the venues whose name is the keyword, or whose location contains every token of the keyword.
+     * @param keyword A venue name or a location such as a city.
+     * @return The venue IDs in ascending order.
+     */
+    public List<Integer> findByLocationOrName(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return new ArrayList<>();
+        }
+        Set<Integer> found = new TreeSet<>(byName.getOrDefault(fold(keyword), Set.of()));
+        List<Set<Integer>> postings = new ArrayList<>();
+        for (String token : tokens(keyword)) {
+            Set<Integer> posting = byLocationToken.get(token);
+            if (posting == null) {
+                return new ArrayList<>(found);
+            }
+            postings.add(posting);
+        }
+        if (!postings.isEmpty()) {
+            postings.sort(Comparator.comparingInt(Set::size));
+            Set<Integer> matches = new HashSet<>(postings.get(0));
+            for (int i = 1; i < postings.size() && !matches.isEmpty(); i++) {
+                matches.retainAll(postings.get(i));
+            }
+            found.addAll(matches);
+        }
+        return new ArrayList<>(found);
+    }
+
+    /**
+     * Finds the venues within a radius of a location. Only venues with coordinates are considered.
+     * @param latitude  The centre's latitude in degrees.
+     * @param longitude The centre's longitude in degrees.
+     * @param radiusKm  The radius in kilometres.
+     * @return The venues, nearest first.
+     */
+    public List<GeoGrid.Nearby> findWithin(double latitude, double longitude, double radiusKm) {
+        return grid.within(latitude, longitude, radiusKm);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void unindex(int venueID, Entry entry) {
+        if (entry == null) {
+            return;
+        }
+        removePosting(byName, entry.name, venueID);
+        entry.locationTokens.forEach(token -> removePosting(byLocationToken, token, venueID));
+    }
+
+    private static void addPosting(Map<String, Set<Integer>> index, String key, int venueID) {
+        index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(venueID);
+    }
+
+    private static void removePosting(Map<String, Set<Integer>> index, String key, int venueID) {
+        index.computeIfPresent(key, (k, venues) -> {
+            venues.remove(venueID);
+            return venues.isEmpty() ? null : venues;
+        });
+    }
+
+    private static List<Integer> sorted(Set<Integer> venues) {
+        return venues == null ? new ArrayList<>() : new ArrayList<>(new TreeSet<>(venues));
+    }
+
+    private static String fold(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> tokens(String location) {
+        Set<String> tokens = new HashSet<>();
+        for (String token : fold(location).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
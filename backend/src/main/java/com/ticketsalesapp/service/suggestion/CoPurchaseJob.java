@@ -0,0 +1,152 @@
+package com.ticketsalesapp.service.suggestion;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Offline job that turns purchase history into "customers who bought tickets to X also bought Y" lists.
+ * <p>
+ * Purchases are packed as {@code customer << 32 | event}, sorted and de-duplicated, which groups every
+ * customer's distinct events together. Customer partitions are then counted in parallel with fork-join,
+ * each into its own sparse co-occurrence matrix, and the partial matrices are merged pairwise.
+ * Finally the top N partners of every event are kept and everything else is dropped.
+ */
+class CoPurchaseJob {
+    private static final int CUSTOMERS_PER_TASK = 512;
+
+    private final int topN;
+    private final ForkJoinPool pool;
+
+    CoPurchaseJob(int topN, ForkJoinPool pool) {
+        this.topN = topN;
+        this.pool = pool;
+    }
+
+    /**
+     * Builds the top-N table.
+     * @param purchases Purchases packed as {@code customer << 32 | event}; the array is sorted in place.
+     * @param count     The number of purchases in the array.
+     * @return For every event bought together with others, its partners ordered by co-purchase count.
+     */
+    Map<Integer, int[]> run(long[] purchases, int count) {
+        Arrays.sort(purchases, 0, count);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || purchases[i] != purchases[distinct - 1]) {
+                purchases[distinct++] = purchases[i];
+            }
+        }
+        int[] customerStarts = new int[distinct + 1];
+        int customers = 0;
+        for (int i = 0; i < distinct; i++) {
+            if (i == 0 || LongIntCounter.row(purchases[i]) != LongIntCounter.row(purchases[i - 1])) {
+                customerStarts[customers++] = i;
+            }
+        }
+        customerStarts[customers] = distinct;
+        if (customers == 0) {
+            return Map.of();
+        }
+        LongIntCounter matrix = pool.invoke(new CountTask(purchases, customerStarts, 0, customers));
+        return topPartners(matrix);
+    }
+
+    private Map<Integer, int[]> topPartners(LongIntCounter matrix) {
+        Map<Integer, TopN> best = new HashMap<>();
+        matrix.forEach((cell, together) -> best
+                .computeIfAbsent(LongIntCounter.row(cell), event -> new TopN(topN))
+                .offer(LongIntCounter.column(cell), together));
+        Map<Integer, int[]> table = new HashMap<>(best.size() * 2);
+        best.forEach((event, top) -> table.put(event, top.events()));
+        return Map.copyOf(table);
+    }
+
+    /**
+     * Counts co-purchases for the customers in {@code [from, to)}.
+     */
+    private static final class CountTask extends RecursiveTask<LongIntCounter> {
+        private final long[] purchases;
+        private final int[] customerStarts;
+        private final int from;
+        private final int to;
+
+        private CountTask(long[] purchases, int[] customerStarts, int from, int to) {
+            this.purchases = purchases;
+            this.customerStarts = customerStarts;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected LongIntCounter compute() {
+            if (to - from <= CUSTOMERS_PER_TASK) {
+                LongIntCounter matrix = new LongIntCounter();
+                for (int customer = from; customer < to; customer++) {
+                    int start = customerStarts[customer];
+                    int end = customerStarts[customer + 1];
+                    for (int i = start; i < end; i++) {
+                        int first = LongIntCounter.column(purchases[i]);
+                        for (int j = i + 1; j < end; j++) {
+                            int second = LongIntCounter.column(purchases[j]);
+                            matrix.add(LongIntCounter.cell(first, second), 1);
+                            matrix.add(LongIntCounter.cell(second, first), 1);
+                        }
+                    }
+                }
+                return matrix;
+            }
+            int middle = (from + to) >>> 1;
+            CountTask left = new CountTask(purchases, customerStarts, from, middle);
+            left.fork();
+            LongIntCounter right = new CountTask(purchases, customerStarts, middle, to).compute();
+            LongIntCounter joined = left.join();
+            if (joined.size() < right.size()) {
+                right.addAll(joined);
+                return right;
+            }
+            joined.addAll(right);
+            return joined;
+        }
+    }
+
+    /**
+     * The N partners with the highest counts seen so far, kept sorted; ties go to the lower event ID.
+     */
+    private static final class TopN {
+        private final int[] events;
+        private final int[] counts;
+        private int size;
+
+        private TopN(int capacity) {
+            events = new int[capacity];
+            counts = new int[capacity];
+        }
+
+        private void offer(int event, int count) {
+            int position = size;
+            while (position > 0 && ranksBefore(event, count, events[position - 1], counts[position - 1])) {
+                position--;
+            }
+            if (position == events.length) {
+                return;
+            }
+            int last = Math.min(size, events.length - 1);
+            System.arraycopy(events, position, events, position + 1, last - position);
+            System.arraycopy(counts, position, counts, position + 1, last - position);
+            events[position] = event;
+            counts[position] = count;
+            size = Math.min(size + 1, events.length);
+        }
+
+        private int[] events() {
+            return Arrays.copyOf(events, size);
+        }
+
+        private static boolean ranksBefore(int event, int count, int otherEvent, int otherCount) {
+            return count > otherCount || (count == otherCount && event < otherEvent);
+        }
+    }
+}
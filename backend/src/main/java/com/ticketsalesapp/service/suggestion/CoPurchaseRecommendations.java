@@ -0,0 +1,159 @@
+package com.ticketsalesapp.service.suggestion;
+
+import com.ticketsalesapp.exception.ValidationException;
+import com.ticketsalesapp.service.ticket.EventTicketStores;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * "Customers who bought tickets to this event also bought" recommendations.
+ * <p>
+ * The table is built in the background from the tickets sold in every event's store, on a fixed interval,
+ * and published as one immutable map, so an event page costs a single map read and never waits for a
+ * rebuild in progress. It can also be rebuilt from an exported purchase history with {@link #rebuild(Path)}.
+ */
+@Component
+public class CoPurchaseRecommendations implements AutoCloseable {
+    private static final int TOP_N = 10;
+    private static final int[] NONE = new int[0];
+    private static final Duration DEFAULT_INTERVAL = Duration.ofHours(1);
+
+    private final CoPurchaseJob job = new CoPurchaseJob(TOP_N, ForkJoinPool.commonPool());
+    private final EventTicketStores stores;
+    private final ScheduledExecutorService scheduler;
+    private volatile Map<Integer, int[]> table = Map.of();
+
+    @Autowired
+    public CoPurchaseRecommendations(EventTicketStores stores) {
+        this(stores, DEFAULT_INTERVAL);
+    }
+
+    /**
+     * @param stores   The ticket stores whose sales the table is built from.
+     * @param interval How often the table is rebuilt from them.
+     */
+    public CoPurchaseRecommendations(EventTicketStores stores, Duration interval) {
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("Interval must be positive.");
+        }
+        this.stores = stores;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "co-purchase-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = interval.toMillis();
+        scheduler.scheduleAtFixedRate(this::rebuildFromSales, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the events most often bought together with an event.
+     * @param eventID The event's ID.
+     * @return Up to {@value #TOP_N} event IDs, most frequent first.
+     */
+    public int[] alsoBought(int eventID) {
+        int[] partners = table.get(eventID);
+        return partners == null ? NONE : partners.clone();
+    }
+
+    /**
+     * Rebuilds the table from the tickets sold so far and publishes it; run on the interval.
+     * @return The number of events that now have recommendations.
+     */
+    public int rebuildFromSales() {
+        LongStream.Builder purchases = LongStream.builder();
+        stores.forEach(store -> store.forEachBuyer(
+                customerID -> purchases.add(LongIntCounter.cell(customerID, store.getEventID()))));
+        long[] built = purchases.build().toArray();
+        return publish(built, built.length);
+    }
+
+    /**
+     * Rebuilds the table from a purchase history file and publishes it.
+     * Each line is {@code customerID,eventID} for one ticket bought; a header, blank lines and malformed
+     * lines are skipped.
+     * @param purchaseHistory The CSV file to read.
+     * @return The number of events that now have recommendations.
+     */
+    public int rebuild(Path purchaseHistory) {
+        long[] purchases = new long[1024];
+        int count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(purchaseHistory, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                long purchase = parse(line);
+                if (purchase == -1) {
+                    continue;
+                }
+                if (count == purchases.length) {
+                    purchases = Arrays.copyOf(purchases, count * 2);
+                }
+                purchases[count++] = purchase;
+            }
+        } catch (IOException e) {
+            throw new ValidationException("Could not read purchase history: " + e.getMessage());
+        }
+        return publish(purchases, count);
+    }
+
+    /**
+     * Rebuilds the table from purchases already in memory and publishes it.
+     * @param customerIDs The buying customer of each purchase.
+     * @param eventIDs    The event of each purchase, aligned with {@code customerIDs}.
+     * @return The number of events that now have recommendations.
+     */
+    public int rebuild(int[] customerIDs, int[] eventIDs) {
+        if (customerIDs.length != eventIDs.length) {
+            throw new ValidationException("Customer and event lists must have the same length.");
+        }
+        long[] purchases = new long[customerIDs.length];
+        for (int i = 0; i < purchases.length; i++) {
+            purchases[i] = LongIntCounter.cell(customerIDs[i], eventIDs[i]);
+        }
+        return publish(purchases, purchases.length);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private int publish(long[] purchases, int count) {
+        Map<Integer, int[]> built = job.run(purchases, count);
+        table = built;
+        return built.size();
+    }
+
+    /**
+     * Parses a {@code customerID,eventID} line.
+     * @return The purchase packed as {@code customer << 32 | event}, or -1 if the line is not a purchase.
+     */
+    private static long parse(String line) {
+        int comma = line.indexOf(',');
+        if (comma < 0) {
+            return -1;
+        }
+        try {
+            int customerID = Integer.parseInt(line.substring(0, comma).trim());
+            int next = line.indexOf(',', comma + 1);
+            int eventID = Integer.parseInt(line.substring(comma + 1, next < 0 ? line.length() : next).trim());
+            return customerID < 0 || eventID < 0 ? -1 : LongIntCounter.cell(customerID, eventID);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
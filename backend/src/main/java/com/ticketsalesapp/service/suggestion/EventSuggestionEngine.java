@@ -0,0 +1,372 @@
+package com.ticketsalesapp.service.suggestion;
+
+import com.ticketsalesapp.model.event.Artist;
+import com.ticketsalesapp.model.event.Athlete;
+import com.ticketsalesapp.model.event.Event;
+import com.ticketsalesapp.model.event.EventStatus;
+import com.ticketsalesapp.model.user.FavouriteEntity;
+import com.ticketsalesapp.service.ArtistService;
+import com.ticketsalesapp.service.AthleteService;
+import com.ticketsalesapp.service.PerformerListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps a ranked list of suggested events for every customer, updated incrementally instead of recomputed
+ * on every page view.
+ * <p>
+ * A customer's favourite performer weighs {@value #FAVOURITE_WEIGHT} and every other performer of the same
+ * genre or sport weighs {@value #RELATED_WEIGHT}; an event scores the sum of the weights of the performers
+ * on its line-up. Adding or removing a favourite only touches the events of the affected performers, and a
+ * line-up change only touches the customers interested in that performer. The sorted list is rebuilt
+ * lazily on the first read after a change, so repeated reads are served from cache.
+ * <p>
+ * The engine listens to the artist and athlete services. When a performer is created, renamed or moves to
+ * another genre or sport, the favourites whose related performers it leaves or joins are recomputed; when
+ * it is deleted, it stops counting for every customer. The performers of a genre or sport are looked up
+ * once per change and shared by every favourite recomputed for it, so importing a batch of performers costs
+ * one lookup per distinct genre or sport rather than one per performer.
+ */
+@Component
+public class EventSuggestionEngine implements PerformerListener {
+    private static final int FAVOURITE_WEIGHT = 2;
+    private static final int RELATED_WEIGHT = 1;
+
+    private final ArtistService artistService;
+    private final AthleteService athleteService;
+
+    private final Map<Key, Event> events = new HashMap<>();
+    private final Map<Key, Set<Key>> performersByEvent = new HashMap<>();
+    private final Map<Key, Set<Key>> eventsByPerformer = new HashMap<>();
+    private final Map<Key, Map<Integer, Integer>> interestByPerformer = new HashMap<>();
+    private final Map<Integer, Profile> profiles = new HashMap<>();
+
+    /**
+     * Identifies an event or performer; concerts, sports events, artists and athletes have separate ID spaces.
+     */
+    private record Key(Class<?> type, int id) {
+        static Key of(Event event) {
+            return new Key(event.getClass(), event.getId());
+        }
+
+        static Key of(FavouriteEntity performer) {
+            return new Key(performer.getClass(), performer.getId());
+        }
+    }
+
+    /**
+     * The genre of an artist or the sport of an athlete: performers sharing one are related.
+     */
+    private record Facet(Class<?> type, String value) {
+        static Facet of(FavouriteEntity performer) {
+            if (performer instanceof Artist artist && artist.getGenre() != null) {
+                return new Facet(Artist.class, artist.getGenre());
+            }
+            if (performer instanceof Athlete athlete && athlete.getAthleteSport() != null) {
+                return new Facet(Athlete.class, athlete.getAthleteSport());
+            }
+            return null;
+        }
+    }
+
+    /**
+     * One customer's weights and event scores. Each favourite remembers the weights it contributed,
+     * so removing it later reverses exactly what was added even if genres changed in between.
+     */
+    private static final class Profile {
+        private final Map<Key, FavouriteEntity> favourites = new HashMap<>();
+        private final Map<Key, Map<Key, Integer>> contributions = new HashMap<>();
+        private final Map<Key, Integer> scores = new HashMap<>();
+        private List<Key> ranking;
+    }
+
+    public EventSuggestionEngine(ArtistService artistService, AthleteService athleteService) {
+        this.artistService = artistService;
+        this.athleteService = athleteService;
+        artistService.addListener(this);
+        athleteService.addListener(this);
+    }
+
+    /**
+     * Updates a customer's suggestions after a performer was added to their favourites.
+     * @param customerID The customer's ID.
+     * @param favourite  The new favourite artist or athlete.
+     */
+    public synchronized void favouriteAdded(int customerID, FavouriteEntity favourite) {
+        Profile profile = profiles.computeIfAbsent(customerID, id -> new Profile());
+        Key favouriteKey = Key.of(favourite);
+        if (profile.contributions.containsKey(favouriteKey)) {
+            return;
+        }
+        addContribution(customerID, profile, favouriteKey, favourite, new HashMap<>());
+    }
+
+    /**
+     * Updates a customer's suggestions after a performer was removed from their favourites.
+     * @param customerID The customer's ID.
+     * @param favourite  The removed favourite.
+     */
+    public synchronized void favouriteRemoved(int customerID, FavouriteEntity favourite) {
+        Profile profile = profiles.get(customerID);
+        if (profile != null) {
+            removeContribution(customerID, profile, Key.of(favourite));
+        }
+    }
+
+    /**
+     * Recomputes the favourites affected by new or changed performers: favourites that counted one of them
+     * as related, favourites now sharing a genre or sport with one of them, and the performers themselves.
+     * @param performers The performers as they are now.
+     */
+    @Override
+    public synchronized void performersChanged(List<? extends FavouriteEntity> performers) {
+        if (performers.isEmpty()) {
+            return;
+        }
+        Map<Key, FavouriteEntity> changed = new HashMap<>();
+        Map<Facet, List<FavouriteEntity>> relatedByFacet = new HashMap<>();
+        Set<Key> peers = new HashSet<>();
+        for (FavouriteEntity performer : performers) {
+            changed.put(Key.of(performer), performer);
+            Facet facet = Facet.of(performer);
+            if (facet != null && !relatedByFacet.containsKey(facet)) {
+                relatedTo(performer, relatedByFacet).forEach(related -> peers.add(Key.of(related)));
+            }
+        }
+        refresh(changed, peers, relatedByFacet);
+    }
+
+    /**
+     * Drops a deleted performer from every customer's suggestions, both as a favourite and as a related
+     * performer of their other favourites.
+     * @param performer The deleted performer.
+     */
+    @Override
+    public synchronized void performerRemoved(FavouriteEntity performer) {
+        Key performerKey = Key.of(performer);
+        for (int customerID : new ArrayList<>(interestByPerformer.getOrDefault(performerKey, Map.of()).keySet())) {
+            removeContribution(customerID, profiles.get(customerID), performerKey);
+        }
+        refresh(Map.of(performerKey, performer), Set.of(), new HashMap<>());
+    }
+
+    /**
+     * Drops everything kept for a customer, e.g. when the account is deleted.
+     * @param customerID The customer's ID.
+     */
+    public synchronized void forgetCustomer(int customerID) {
+        Profile profile = profiles.remove(customerID);
+        if (profile == null) {
+            return;
+        }
+        for (Map<Key, Integer> weights : profile.contributions.values()) {
+            for (Key performer : weights.keySet()) {
+                interestByPerformer.computeIfPresent(performer, (key, customers) -> {
+                    customers.remove(customerID);
+                    return customers.isEmpty() ? null : customers;
+                });
+            }
+        }
+    }
+
+    /**
+     * Records a new or changed event, so its date and status are current when suggestions are read.
+     * @param event The event.
+     */
+    public synchronized void eventChanged(Event event) {
+        Key eventKey = Key.of(event);
+        events.put(eventKey, event);
+        invalidateInterested(eventKey);
+    }
+
+    /**
+     * Removes an event and its line-up from every customer's suggestions.
+     * @param event The deleted event.
+     */
+    public synchronized void eventRemoved(Event event) {
+        Key eventKey = Key.of(event);
+        for (Key performer : new ArrayList<>(performersByEvent.getOrDefault(eventKey, Set.of()))) {
+            unlink(eventKey, performer);
+        }
+        events.remove(eventKey);
+    }
+
+    /**
+     * Adds a performer to an event's line-up and raises the event's score for every interested customer.
+     * @param event     The event.
+     * @param performer The artist or athlete.
+     */
+    public synchronized void lineUpAdded(Event event, FavouriteEntity performer) {
+        Key eventKey = Key.of(event);
+        Key performerKey = Key.of(performer);
+        events.put(eventKey, event);
+        if (!performersByEvent.computeIfAbsent(eventKey, key -> new HashSet<>()).add(performerKey)) {
+            return;
+        }
+        eventsByPerformer.computeIfAbsent(performerKey, key -> new HashSet<>()).add(eventKey);
+        interestByPerformer.getOrDefault(performerKey, Map.of())
+                .forEach((customerID, weight) -> addScore(profiles.get(customerID), eventKey, weight));
+    }
+
+    /**
+     * Removes a performer from an event's line-up and lowers the event's score for every interested customer.
+     * @param event     The event.
+     * @param performer The artist or athlete.
+     */
+    public synchronized void lineUpRemoved(Event event, FavouriteEntity performer) {
+        unlink(Key.of(event), Key.of(performer));
+    }
+
+    /**
+     * Returns a customer's suggested events: upcoming, scheduled events ranked by score, then by start.
+     * @param customerID The customer's ID.
+     * @param limit      The maximum number of events.
+     * @return The suggested events.
+     */
+    public synchronized List<Event> suggestionsFor(int customerID, int limit) {
+        List<Event> suggestions = new ArrayList<>();
+        Profile profile = profiles.get(customerID);
+        if (profile == null || limit <= 0) {
+            return suggestions;
+        }
+        if (profile.ranking == null) {
+            profile.ranking = rank(profile);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (Key eventKey : profile.ranking) {
+            Event event = events.get(eventKey);
+            if (event != null && event.getEventStatus() == EventStatus.SCHEDULED
+                    && event.getStartDateTime() != null && event.getStartDateTime().isAfter(now)) {
+                suggestions.add(event);
+                if (suggestions.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * @param relatedByFacet The performers of every genre or sport looked up so far in the current change;
+     *                       a lookup for a new genre or sport is added to it.
+     * @return The performers sharing the favourite's genre or sport, including itself.
+     */
+    private List<FavouriteEntity> relatedTo(FavouriteEntity favourite,
+                                            Map<Facet, List<FavouriteEntity>> relatedByFacet) {
+        Facet facet = Facet.of(favourite);
+        if (facet == null) {
+            return List.of();
+        }
+        return relatedByFacet.computeIfAbsent(facet, key -> key.type() == Artist.class
+                ? List.copyOf(artistService.findArtistsByGenre(key.value()))
+                : List.copyOf(athleteService.findAthletesBySport(key.value())));
+    }
+
+    private void refresh(Map<Key, FavouriteEntity> changed, Set<Key> peers,
+                         Map<Facet, List<FavouriteEntity>> relatedByFacet) {
+        Set<Integer> customers = new HashSet<>();
+        for (Key performer : changed.keySet()) {
+            customers.addAll(interestByPerformer.getOrDefault(performer, Map.of()).keySet());
+        }
+        for (Key performer : peers) {
+            customers.addAll(interestByPerformer.getOrDefault(performer, Map.of()).keySet());
+        }
+        for (int customerID : customers) {
+            Profile profile = profiles.get(customerID);
+            for (Key favouriteKey : new ArrayList<>(profile.contributions.keySet())) {
+                Map<Key, Integer> weights = profile.contributions.get(favouriteKey);
+                if (changed.containsKey(favouriteKey) || peers.contains(favouriteKey)
+                        || weights.keySet().stream().anyMatch(changed::containsKey)) {
+                    FavouriteEntity favourite = changed.getOrDefault(favouriteKey, profile.favourites.get(favouriteKey));
+                    removeContribution(customerID, profile, favouriteKey);
+                    addContribution(customerID, profile, favouriteKey, favourite, relatedByFacet);
+                }
+            }
+        }
+    }
+
+    private void addContribution(int customerID, Profile profile, Key favouriteKey, FavouriteEntity favourite,
+                                 Map<Facet, List<FavouriteEntity>> relatedByFacet) {
+        Map<Key, Integer> weights = new HashMap<>();
+        for (FavouriteEntity related : relatedTo(favourite, relatedByFacet)) {
+            weights.put(Key.of(related), RELATED_WEIGHT);
+        }
+        weights.put(favouriteKey, FAVOURITE_WEIGHT);
+        profile.favourites.put(favouriteKey, favourite);
+        profile.contributions.put(favouriteKey, weights);
+        weights.forEach((performer, weight) -> applyInterest(customerID, profile, performer, weight));
+    }
+
+    private void removeContribution(int customerID, Profile profile, Key favouriteKey) {
+        Map<Key, Integer> weights = profile.contributions.remove(favouriteKey);
+        profile.favourites.remove(favouriteKey);
+        if (weights != null) {
+            weights.forEach((performer, weight) -> applyInterest(customerID, profile, performer, -weight));
+        }
+    }
+
+    private void applyInterest(int customerID, Profile profile, Key performer, int delta) {
+        Map<Integer, Integer> customers = interestByPerformer.computeIfAbsent(performer, key -> new HashMap<>());
+        if (customers.merge(customerID, delta, Integer::sum) == 0) {
+            customers.remove(customerID);
+        }
+        if (customers.isEmpty()) {
+            interestByPerformer.remove(performer);
+        }
+        for (Key eventKey : eventsByPerformer.getOrDefault(performer, Set.of())) {
+            addScore(profile, eventKey, delta);
+        }
+    }
+
+    private void unlink(Key eventKey, Key performerKey) {
+        Set<Key> performers = performersByEvent.get(eventKey);
+        if (performers == null || !performers.remove(performerKey)) {
+            return;
+        }
+        if (performers.isEmpty()) {
+            performersByEvent.remove(eventKey);
+        }
+        eventsByPerformer.computeIfPresent(performerKey, (key, eventKeys) -> {
+            eventKeys.remove(eventKey);
+            return eventKeys.isEmpty() ? null : eventKeys;
+        });
+        interestByPerformer.getOrDefault(performerKey, Map.of())
+                .forEach((customerID, weight) -> addScore(profiles.get(customerID), eventKey, -weight));
+    }
+
+    private static void addScore(Profile profile, Key eventKey, int delta) {
+        if (profile == null) {
+            return;
+        }
+        if (profile.scores.merge(eventKey, delta, Integer::sum) == 0) {
+            profile.scores.remove(eventKey);
+        }
+        profile.ranking = null;
+    }
+
+    private void invalidateInterested(Key eventKey) {
+        for (Key performer : performersByEvent.getOrDefault(eventKey, Set.of())) {
+            for (int customerID : interestByPerformer.getOrDefault(performer, Map.of()).keySet()) {
+                profiles.get(customerID).ranking = null;
+            }
+        }
+    }
+
+    private List<Key> rank(Profile profile) {
+        Comparator<Key> byScore = Comparator.comparingInt((Key key) -> profile.scores.get(key)).reversed();
+        Comparator<Key> byStart = Comparator.comparing(key -> events.get(key).getStartDateTime(),
+                Comparator.nullsLast(Comparator.naturalOrder()));
+        return profile.scores.keySet().stream()
+                .filter(events::containsKey)
+                .sorted(byScore.thenComparing(byStart))
+                .toList();
+    }
+}
@@ -0,0 +1,121 @@
+package com.ticketsalesapp.service.suggestion;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from a primitive long key to an int count, used as a sparse matrix whose
+ * cells are keyed by {@code row << 32 | column}. Keeps every cell in two flat arrays instead of boxing
+ * each one into a map entry. Not thread-safe.
+ */
+class LongIntCounter {
+    private static final long FREE = Long.MIN_VALUE;
+
+    private long[] keys;
+    private int[] counts;
+    private int size;
+
+    LongIntCounter() {
+        this(64);
+    }
+
+    LongIntCounter(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(16, expected * 2 - 1)) << 1;
+        keys = new long[capacity];
+        counts = new int[capacity];
+        Arrays.fill(keys, FREE);
+    }
+
+    static long cell(int row, int column) {
+        return ((long) row << 32) | (column & 0xffffffffL);
+    }
+
+    static int row(long cell) {
+        return (int) (cell >> 32);
+    }
+
+    static int column(long cell) {
+        return (int) cell;
+    }
+
+    void add(long key, int delta) {
+        int slot = find(key);
+        if (keys[slot] == FREE) {
+            keys[slot] = key;
+            counts[slot] = delta;
+            if (++size * 4 > keys.length * 3) {
+                resize();
+            }
+        } else {
+            counts[slot] += delta;
+        }
+    }
+
+    /**
+     * Adds every cell of another counter into this one. The table is grown up front: inserting another
+     * table's keys in slot order into a smaller table with the same hash would pile them into long probe runs.
+     */
+    void addAll(LongIntCounter other) {
+        while ((size + other.size) * 4 > keys.length * 3) {
+            resize();
+        }
+        for (int i = 0; i < other.keys.length; i++) {
+            if (other.keys[i] != FREE) {
+                add(other.keys[i], other.counts[i]);
+            }
+        }
+    }
+
+    int get(long key) {
+        int slot = find(key);
+        return keys[slot] == FREE ? 0 : counts[slot];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Visits every non-empty cell.
+     */
+    void forEach(CellVisitor visitor) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE) {
+                visitor.visit(keys[i], counts[i]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface CellVisitor {
+        void visit(long key, int count);
+    }
+
+    private int find(long key) {
+        int mask = keys.length - 1;
+        int slot = (int) mix(key) & mask;
+        while (keys[slot] != FREE && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldCounts = counts;
+        keys = new long[oldKeys.length * 2];
+        counts = new int[oldKeys.length * 2];
+        Arrays.fill(keys, FREE);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+    }
+
+    private static long mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 32);
+    }
+}
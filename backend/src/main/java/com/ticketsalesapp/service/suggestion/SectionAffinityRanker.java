@@ -0,0 +1,135 @@
+package com.ticketsalesapp.service.suggestion;
+
+import com.ticketsalesapp.model.user.Customer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Orders a venue's sections, and the seats in them, for a returning customer.
+ * <p>
+ * Every purchase bumps a counter in {@link Customer#getPreferredSections()} (section ID to tickets bought)
+ * and a per-venue popularity counter for the section. A section's score blends the customer's share of
+ * purchases in it with the section's share of all purchases at the venue, so ranking costs O(sections)
+ * and never looks at individual seats.
+ */
+@Component
+public class SectionAffinityRanker {
+    private static final double CUSTOMER_WEIGHT = 0.8;
+    private static final double VENUE_WEIGHT = 0.2;
+
+    private final Map<Integer, VenueSections> venues = new ConcurrentHashMap<>();
+
+    /**
+     * A venue's sections with the number of tickets sold in each.
+     */
+    private static final class VenueSections {
+        private final Map<Integer, LongAdder> sold = new ConcurrentHashMap<>();
+        private final AtomicLong total = new AtomicLong();
+
+        private void add(int sectionID, int tickets) {
+            sold.computeIfAbsent(sectionID, id -> new LongAdder()).add(tickets);
+            total.addAndGet(tickets);
+        }
+
+        private double share(int sectionID) {
+            LongAdder count = sold.get(sectionID);
+            long all = total.get();
+            return count == null || all == 0 ? 0 : (double) count.sum() / all;
+        }
+    }
+
+    /**
+     * Records a purchase, updating the customer's section affinity and the section's popularity.
+     * @param customer  The buying customer.
+     * @param venueID   The venue's ID.
+     * @param sectionID The section the tickets are in.
+     * @param tickets   The number of tickets bought.
+     */
+    public void recordPurchase(Customer customer, int venueID, int sectionID, int tickets) {
+        if (tickets <= 0) {
+            return;
+        }
+        Map<Integer, Integer> preferred = customer.getPreferredSections();
+        synchronized (preferred) {
+            preferred.merge(sectionID, tickets, Integer::sum);
+        }
+        venues.computeIfAbsent(venueID, id -> new VenueSections()).add(sectionID, tickets);
+    }
+
+    /**
+     * Ranks sections for a customer, best first; ties keep the order they were given in.
+     * @param customer   The customer, or null for an anonymous visitor (popularity only).
+     * @param venueID    The venue's ID.
+     * @param sectionIDs The sections to rank, e.g. those that still have available seats.
+     * @return The section IDs, best first.
+     */
+    public int[] rankSections(Customer customer, int venueID, int[] sectionIDs) {
+        double[] scores = scores(customer, venueID, sectionIDs);
+        Integer[] order = new Integer[sectionIDs.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(scores[b], scores[a]));
+        int[] ranked = new int[sectionIDs.length];
+        for (int i = 0; i < ranked.length; i++) {
+            ranked[i] = sectionIDs[order[i]];
+        }
+        return ranked;
+    }
+
+    /**
+     * Returns a venue's available seats ordered by how well their section suits the customer.
+     * Only the sections are scored; seats keep their order within a section.
+     * @param customer            The customer, or null for an anonymous visitor.
+     * @param venueID             The venue's ID.
+     * @param availableBySection  The available seats of each section.
+     * @param limit               The maximum number of seats to return.
+     * @param <S>                 The seat type.
+     * @return The seats, best section first.
+     */
+    public <S> List<S> rankSeats(Customer customer, int venueID, Map<Integer, List<S>> availableBySection, int limit) {
+        int[] sectionIDs = availableBySection.entrySet().stream()
+                .filter(entry -> !entry.getValue().isEmpty())
+                .mapToInt(Map.Entry::getKey)
+                .toArray();
+        List<S> seats = new ArrayList<>(Math.min(Math.max(limit, 0), 64));
+        for (int sectionID : rankSections(customer, venueID, sectionIDs)) {
+            for (S seat : availableBySection.get(sectionID)) {
+                if (seats.size() >= limit) {
+                    return seats;
+                }
+                seats.add(seat);
+            }
+        }
+        return seats;
+    }
+
+    private double[] scores(Customer customer, int venueID, int[] sectionIDs) {
+        int[] bought = new int[sectionIDs.length];
+        long boughtTotal = 0;
+        if (customer != null) {
+            Map<Integer, Integer> preferred = customer.getPreferredSections();
+            synchronized (preferred) {
+                for (int i = 0; i < sectionIDs.length; i++) {
+                    bought[i] = preferred.getOrDefault(sectionIDs[i], 0);
+                    boughtTotal += bought[i];
+                }
+            }
+        }
+        VenueSections sections = venues.get(venueID);
+        double[] scores = new double[sectionIDs.length];
+        for (int i = 0; i < sectionIDs.length; i++) {
+            double customerShare = boughtTotal == 0 ? 0 : (double) bought[i] / boughtTotal;
+            double venueShare = sections == null ? 0 : sections.share(sectionIDs[i]);
+            scores[i] = CUSTOMER_WEIGHT * customerShare + VENUE_WEIGHT * venueShare;
+        }
+        return scores;
+    }
+}
@@ -0,0 +1,193 @@
+package com.ticketsalesapp.service.ticket;
+
+import com.ticketsalesapp.exception.EntityNotFoundException;
+import com.ticketsalesapp.model.ticket.TicketType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the prices of unsold tickets in line with how close the event is and how well it is selling.
+ * <p>
+ * STANDARD tickets follow the days-to-event tiers (+10% more than 30 days out, +20% up to a week, +50% in the
+ * last week, -20% on the last day), now re-evaluated over time instead of fixed at generation. STANDARD and
+ * VIP tickets also get a demand surcharge once more than half of the event is sold, rising with every tenth
+ * of the sell-through up to +20% at sold out.
+ * EARLY_BIRD tickets keep their base price.
+ * <p>
+ * All factors apply to the untiered base price a ticket was appended with (see
+ * {@link TicketGenerationPipeline.TypeAllocation#basePrice}); a base price that already includes a tier would
+ * be tiered twice. Register an event before its tickets are generated: from then on appended and released
+ * tickets are priced with the event's current factors, while tickets appended earlier sell at their base
+ * price until registration reprices them.
+ * <p>
+ * Every registered event is repriced on a fixed interval, and immediately when a sale moves its
+ * sell-through into the next demand step. Each repricing is one {@link EventTicketStore#reprice} pass,
+ * so an event's new prices become visible all at once.
+ */
+@Component
+public class DynamicPricingEngine implements AutoCloseable {
+    private static final Duration DEFAULT_INTERVAL = Duration.ofHours(1);
+    private static final int DEMAND_STEPS_PER_EVENT = 10;
+    private static final double DEMAND_THRESHOLD = 0.5;
+    private static final double MAX_DEMAND_SURCHARGE = 0.2;
+
+    private final EventTicketStores stores;
+    private final Clock clock;
+    private final Map<Integer, PricedEvent> events = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * An event being repriced, with the demand step its current prices were computed for.
+     */
+    private static final class PricedEvent {
+        private final LocalDateTime startDateTime;
+        private volatile int demandStep = -1;
+
+        private PricedEvent(LocalDateTime startDateTime) {
+            this.startDateTime = startDateTime;
+        }
+    }
+
+    @Autowired
+    public DynamicPricingEngine(EventTicketStores stores) {
+        this(stores, Clock.systemDefaultZone(), DEFAULT_INTERVAL);
+    }
+
+    /**
+     * @param stores   The ticket stores to reprice.
+     * @param clock    The clock the days to an event are measured with.
+     * @param interval How often every registered event is repriced.
+     */
+    public DynamicPricingEngine(EventTicketStores stores, Clock clock, Duration interval) {
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("Interval must be positive.");
+        }
+        this.stores = stores;
+        this.clock = clock;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ticket-repricing");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = interval.toMillis();
+        scheduler.scheduleAtFixedRate(this::repriceAll, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Starts repricing an event's tickets, and prices them for the current time right away. Tickets
+     * appended to the event afterwards are priced with its current factors as well.
+     * Registering an event again, e.g. after it was rescheduled, replaces its start time.
+     * @param eventID       The event's ID.
+     * @param startDateTime When the event starts.
+     */
+    public void register(int eventID, LocalDateTime startDateTime) {
+        PricedEvent event = new PricedEvent(startDateTime);
+        EventTicketStore store = stores.forEvent(eventID);
+        events.put(eventID, event);
+        store.priceWith(() -> factors(event.startDateTime, demandStep(store)));
+        reprice(eventID);
+    }
+
+    /**
+     * Stops repricing an event, e.g. when it is cancelled or completed. Its prices stay as they are, and
+     * tickets appended later get the factors of the last repricing.
+     * @param eventID The event's ID.
+     */
+    public void unregister(int eventID) {
+        events.remove(eventID);
+        stores.find(eventID).ifPresent(store -> store.priceWith(null));
+    }
+
+    /**
+     * Demand signal: call after tickets of an event were sold. The event is repriced only if its
+     * sell-through has moved into another demand step since the last repricing.
+     * @param eventID The event's ID.
+     */
+    public void ticketsSold(int eventID) {
+        PricedEvent event = events.get(eventID);
+        if (event != null && event.demandStep != demandStep(stores.forEvent(eventID))) {
+            reprice(eventID);
+        }
+    }
+
+    /**
+     * Reprices an event now.
+     * @param eventID The event's ID.
+     * @return The store's new price version.
+     * @throws EntityNotFoundException If the event is not registered.
+     */
+    public int reprice(int eventID) {
+        PricedEvent event = events.get(eventID);
+        if (event == null) {
+            throw new EntityNotFoundException("Event " + eventID + " is not being repriced.");
+        }
+        EventTicketStore store = stores.forEvent(eventID);
+        synchronized (event) {
+            int step = demandStep(store);
+            int version = store.reprice(factors(event.startDateTime, step));
+            event.demandStep = step;
+            return version;
+        }
+    }
+
+    /**
+     * Reprices every registered event; run on the engine's interval.
+     */
+    public void repriceAll() {
+        for (Integer eventID : events.keySet()) {
+            try {
+                reprice(eventID);
+            } catch (EntityNotFoundException e) {
+                // unregistered while the others were being repriced
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private double[] factors(LocalDateTime startDateTime, int demandStep) {
+        double demand = 1 + demandSurcharge(demandStep);
+        double[] factors = new double[TicketType.values().length];
+        factors[TicketType.EARLY_BIRD.ordinal()] = 1;
+        factors[TicketType.VIP.ordinal()] = demand;
+        factors[TicketType.STANDARD.ordinal()] = timeFactor(startDateTime) * demand;
+        return factors;
+    }
+
+    private double timeFactor(LocalDateTime startDateTime) {
+        long daysToEvent = Duration.between(LocalDateTime.now(clock), startDateTime).toDays();
+        if (daysToEvent > 30) {
+            return 1.1;
+        } else if (daysToEvent > 7) {
+            return 1.2;
+        } else if (daysToEvent > 1) {
+            return 1.5;
+        }
+        return 0.8;
+    }
+
+    private static double demandSurcharge(int demandStep) {
+        double sellThrough = (double) demandStep / DEMAND_STEPS_PER_EVENT;
+        if (sellThrough <= DEMAND_THRESHOLD) {
+            return 0;
+        }
+        return MAX_DEMAND_SURCHARGE * (sellThrough - DEMAND_THRESHOLD) / (1 - DEMAND_THRESHOLD);
+    }
+
+    private static int demandStep(EventTicketStore store) {
+        int size = store.size();
+        return size == 0 ? 0 : (int) ((long) store.countSold() * DEMAND_STEPS_PER_EVENT / size);
+    }
+}
@@ -0,0 +1,699 @@
+package com.ticketsalesapp.service.ticket;
+
+import com.ticketsalesapp.exception.BusinessLogicException;
+import com.ticketsalesapp.exception.ValidationException;
+import com.ticketsalesapp.model.ticket.TicketState;
+import com.ticketsalesapp.model.ticket.TicketType;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Struct-of-arrays store of one event's tickets.
+ * <p>
+ * Instead of one object per ticket with references to its event, seat, customer and cart, every field is a
+ * parallel primitive array indexed by the ticket's position in the store: seat ID, price in cents, type
+ * ordinal, state word, cart ID and purchase time in epoch seconds. That is about 30 bytes per ticket instead
+ * of 100+, and a scan over an event's tickets reads a few dense arrays front to back.
+ * {@link TicketView}s are created on demand when a ticket has to be handed out as an object.
+ * <p>
+ * Ticket IDs are assigned in contiguous ranges (one per {@link #append} call), so only the start of each
+ * range is stored and an ID is resolved to a position by binary search over the ranges. Blocks may arrive in
+ * any ID order, e.g. from parallel generation, and appending a block that is already stored changes nothing,
+ * so a generation can be resumed against the store with its {@link #generationCheckpoints()}.
+ * <p>
+ * Prices can be changed after generation with {@link #reprice}: the untiered base price each ticket was
+ * appended with is kept, the new prices of all tickets are computed into a fresh array in one pass, and the
+ * array is swapped in with a single write, so no reader ever sees an event that is half old and half new
+ * prices. A sold ticket's price is recorded with its sale, so repricing never changes what a buyer paid.
+ * <p>
+ * Claiming is lock-free. Each ticket has one 64-bit state word packing its state, the customer holding or
+ * owning it, and the hold's deadline, and every transition (AVAILABLE to HELD, HELD to SOLD, an expired hold
+ * back to AVAILABLE, ...) is a compare-and-set on that word. Of any number of customers racing for a ticket
+ * exactly one CAS succeeds, and the others see the new word and fail. Confirming and selling take no lock
+ * either: the winning CAS moves the word to an internal SETTLING state that no other transition accepts, the
+ * sale's cart, purchase time and price are written, and a final write of the word publishes SOLD, so nobody
+ * sees a sold ticket without its sale. A settling ticket reads as HELD.
+ * <p>
+ * The state words and sale columns live in fixed-size chunks that are never copied when the store grows, so
+ * a CAS or a sale can never land on a stale copy. Appending, repricing and refunds take the store's lock.
+ * <p>
+ * Availability is counted per type in striped counters that every transition into or out of AVAILABLE
+ * updates, so {@link #countAvailable} is constant time. A hold that expires makes no transition, so the store
+ * tracks the earliest deadline of its holds, and the first count after it first puts the expired holds back on
+ * sale with {@link #releaseExpiredHolds}.
+ */
+public class EventTicketStore {
+    private static final TicketType[] TYPES = TicketType.values();
+    private static final int NONE = 0;
+    private static final int SCALE = 1_000;
+    private static final int CHUNK_BITS = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final long AVAILABLE = 0;
+    private static final int HELD = 1;
+    private static final int SOLD = 2;
+    private static final int SETTLING = 3;
+    private static final long CUSTOMER_MASK = 0xFFFF_FFFFL;
+    private static final int DEADLINE_SHIFT = 34;
+    private static final long MAX_DEADLINE = (1L << (64 - DEADLINE_SHIFT)) - 1;
+
+    private final int eventID;
+    private final long epochSecond = System.currentTimeMillis() / 1000;
+    private volatile int size;
+    private volatile Chunk[] chunks = new Chunk[0];
+    private int[] seatIDs = new int[0];
+    private int[] basePriceCents = new int[0];
+    private volatile int[] priceCents = new int[0];
+    private int priceVersion;
+    private byte[] types = new byte[0];
+    private int[] rangeStarts = new int[0];
+    private int[] rangeFirstIDs = new int[0];
+    private int[] rangesByID = new int[0];
+    private int ranges;
+    private int[] lastScale = uniformScale();
+    private volatile Supplier<double[]> pricing;
+    private final AtomicInteger sold = new AtomicInteger();
+    private final LongAdder[] available = newCounters();
+    private final AtomicLong nextExpiry = new AtomicLong(Long.MAX_VALUE);
+    private final GenerationCheckpoints generationCheckpoints = new InMemoryGenerationCheckpoints();
+
+    /**
+     * The state words and sale columns of {@code CHUNK_SIZE} consecutive tickets. A sale's columns are only
+     * written by the thread that moved the ticket to SETTLING, and are published by its write of SOLD.
+     */
+    private static final class Chunk {
+        private final AtomicLongArray states = new AtomicLongArray(CHUNK_SIZE);
+        private final int[] cartIDs = new int[CHUNK_SIZE];
+        private final long[] purchaseEpochs = new long[CHUNK_SIZE];
+        private final int[] soldPriceCents = new int[CHUNK_SIZE];
+    }
+
+    public EventTicketStore(int eventID) {
+        this.eventID = eventID;
+    }
+
+    public int getEventID() {
+        return eventID;
+    }
+
+    /**
+     * Returns where the {@link TicketGenerationPipeline} records its progress on this store. The checkpoints
+     * live and die with the store, so they never vouch for tickets it does not have.
+     */
+    public GenerationCheckpoints generationCheckpoints() {
+        return generationCheckpoints;
+    }
+
+    /**
+     * Appends a block of available tickets, e.g. one batch from the {@link TicketGenerationPipeline}.
+     * Appending the same block again, e.g. a batch written again after a crash, is a no-op.
+     * @param firstTicketID The ID of the first ticket; the others follow consecutively.
+     * @param seatIDs       The seat of each ticket (0 for general admission).
+     * @param ticketTypes   The type of each ticket.
+     * @param basePrices    The untiered price of each ticket; it is sold at this price times the current
+     *                      factor of its type.
+     * @return The position of the first appended ticket, or the current size if the block is empty.
+     * @throws ValidationException If the IDs overlap another block's.
+     */
+    public synchronized int append(int firstTicketID, int[] seatIDs, TicketType[] ticketTypes, double[] basePrices) {
+        int count = seatIDs.length;
+        if (ticketTypes.length != count || basePrices.length != count) {
+            throw new ValidationException("Ticket columns must have the same length.");
+        }
+        if (count == 0) {
+            // an empty range would share its start with the next one and shadow it in ticketIDAt
+            return size;
+        }
+        int slot = rangeSlotOf(firstTicketID);
+        if (slot >= 0) {
+            int range = rangesByID[slot];
+            if (firstTicketID - rangeFirstIDs[range] < rangeLength(range)) {
+                if (rangeFirstIDs[range] == firstTicketID && rangeLength(range) == count) {
+                    return rangeStarts[range];
+                }
+                throw new ValidationException("Ticket IDs overlap an appended block.");
+            }
+        }
+        if (slot + 1 < ranges && (long) firstTicketID + count > rangeFirstIDs[rangesByID[slot + 1]]) {
+            throw new ValidationException("Ticket IDs overlap an appended block.");
+        }
+        int first = size;
+        ensureCapacity(size + count);
+        System.arraycopy(seatIDs, 0, this.seatIDs, first, count);
+        int[] scale = currentScale();
+        for (int i = 0; i < count; i++) {
+            byte type = (byte) ticketTypes[i].ordinal();
+            basePriceCents[first + i] = toCents(basePrices[i]);
+            priceCents[first + i] = scaled(basePriceCents[first + i], scale[type]);
+            types[first + i] = type;
+            available[type].increment();
+        }
+        if (ranges == rangeStarts.length) {
+            rangeStarts = Arrays.copyOf(rangeStarts, Math.max(4, ranges * 2));
+            rangeFirstIDs = Arrays.copyOf(rangeFirstIDs, rangeStarts.length);
+            rangesByID = Arrays.copyOf(rangesByID, rangeStarts.length);
+        }
+        rangeStarts[ranges] = first;
+        rangeFirstIDs[ranges] = firstTicketID;
+        System.arraycopy(rangesByID, slot + 1, rangesByID, slot + 2, ranges - slot - 1);
+        rangesByID[slot + 1] = ranges;
+        ranges++;
+        size = first + count;
+        return first;
+    }
+
+    /**
+     * Appends one batch from the {@link TicketGenerationPipeline}; usable as its {@code TicketBatchWriter}.
+     * @param batch The generated tickets.
+     * @return The position of the batch's first ticket.
+     */
+    public int append(TicketGenerationPipeline.TicketBatch batch) {
+        if (batch.eventID() != eventID) {
+            throw new ValidationException("Batch belongs to another event.");
+        }
+        return append(batch.firstTicketID(), batch.seatIDs(), batch.types(), batch.basePrices());
+    }
+
+    /**
+     * Holds a ticket for a customer, e.g. when it is added to their cart. Lock-free: one compare-and-set.
+     * A hold that has expired can be taken over; holding a ticket the customer already holds extends the hold.
+     * @param position   The ticket's position in the store.
+     * @param customerID The customer claiming the ticket.
+     * @param holdFor    How long the ticket stays reserved for the customer, at least one second.
+     * @return true if the customer now holds the ticket, false if someone else holds or bought it.
+     */
+    public boolean hold(int position, int customerID, Duration holdFor) {
+        AtomicLongArray states = chunk(position).states;
+        int index = position & (CHUNK_SIZE - 1);
+        long held = word(HELD, customerID, deadline(holdFor));
+        while (true) {
+            long current = states.get(index);
+            if (!isClaimable(current) && !(stateOf(current) == HELD && customerOf(current) == customerID)) {
+                return false;
+            }
+            if (states.compareAndSet(index, current, held)) {
+                if (current == AVAILABLE) {
+                    available[typeOf(position)].decrement();
+                }
+                if (deadlineOf(held) < nextExpiry.get()) {
+                    nextExpiry.accumulateAndGet(deadlineOf(held), Math::min);
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gives up a customer's hold, e.g. when the ticket is removed from their cart. Lock-free.
+     * @param position   The ticket's position in the store.
+     * @param customerID The customer holding the ticket.
+     * @return true if the hold was released, false if the customer did not hold the ticket.
+     */
+    public boolean releaseHold(int position, int customerID) {
+        AtomicLongArray states = chunk(position).states;
+        int index = position & (CHUNK_SIZE - 1);
+        long current = states.get(index);
+        if (stateOf(current) == HELD && customerOf(current) == customerID
+                && states.compareAndSet(index, current, AVAILABLE)) {
+            available[typeOf(position)].increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Turns a customer's hold into a sale, e.g. at checkout. Lock-free: the hold is claimed with one
+     * compare-and-set, then the sale is recorded at the ticket's current price.
+     * @param position     The ticket's position in the store.
+     * @param customerID   The customer holding the ticket.
+     * @param cartID       The cart the ticket is bought through, or 0.
+     * @param purchaseDate When the ticket was bought.
+     * @throws BusinessLogicException If the customer's hold has expired or was taken over.
+     */
+    public void confirm(int position, int customerID, int cartID, LocalDateTime purchaseDate) {
+        Chunk chunk = chunk(position);
+        int index = position & (CHUNK_SIZE - 1);
+        long purchaseEpoch = purchaseDate.toEpochSecond(ZoneOffset.UTC);
+        long current = chunk.states.get(index);
+        if (stateOf(current) != HELD || customerOf(current) != customerID || isClaimable(current)
+                || !chunk.states.compareAndSet(index, current, word(SETTLING, customerID, 0))) {
+            throw new BusinessLogicException("Your hold on this ticket has expired.");
+        }
+        settle(chunk, index, position, customerID, cartID, purchaseEpoch);
+    }
+
+    /**
+     * Sells a ticket directly, without a hold. Lock-free, like {@link #confirm}.
+     * @param position     The ticket's position in the store.
+     * @param customerID   The buying customer.
+     * @param cartID       The cart the ticket was bought through, or 0.
+     * @param purchaseDate When the ticket was bought.
+     * @throws BusinessLogicException If the ticket is sold or held by another customer.
+     */
+    public void sell(int position, int customerID, int cartID, LocalDateTime purchaseDate) {
+        Chunk chunk = chunk(position);
+        int index = position & (CHUNK_SIZE - 1);
+        long purchaseEpoch = purchaseDate.toEpochSecond(ZoneOffset.UTC);
+        long settling = word(SETTLING, customerID, 0);
+        while (true) {
+            long current = chunk.states.get(index);
+            if (stateOf(current) == SOLD || stateOf(current) == SETTLING) {
+                throw new BusinessLogicException("Ticket is already sold.");
+            }
+            if (!isClaimable(current) && customerOf(current) != customerID) {
+                throw new BusinessLogicException("Ticket is held by another customer.");
+            }
+            if (chunk.states.compareAndSet(index, current, settling)) {
+                if (current == AVAILABLE) {
+                    available[typeOf(position)].decrement();
+                }
+                settle(chunk, index, position, customerID, cartID, purchaseEpoch);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns a sold ticket to sale at the current price of its type, e.g. after a refund.
+     * @param position The ticket's position in the store.
+     */
+    public synchronized void release(int position) {
+        Chunk chunk = chunk(position);
+        int index = position & (CHUNK_SIZE - 1);
+        long current = chunk.states.get(index);
+        if (stateOf(current) == SOLD
+                && chunk.states.compareAndSet(index, current, word(SETTLING, customerOf(current), 0))) {
+            chunk.cartIDs[index] = NONE;
+            chunk.purchaseEpochs[index] = 0;
+            chunk.soldPriceCents[index] = 0;
+            sold.decrementAndGet();
+            priceCents[position] = scaled(basePriceCents[position], currentScale()[types[position]]);
+            chunk.states.set(index, AVAILABLE);
+            available[types[position]].increment();
+        }
+    }
+
+    /**
+     * Puts every ticket whose hold has expired back on sale. Lock-free; holds that are refreshed or
+     * confirmed at the same time are left alone.
+     * @return The number of tickets released.
+     */
+    public int releaseExpiredHolds() {
+        // holds placed from here on lower the mark themselves; the scan adds the deadlines of the older ones
+        nextExpiry.set(Long.MAX_VALUE);
+        int count = size;
+        Chunk[] chunks = this.chunks;
+        long now = nowSeconds();
+        long earliest = Long.MAX_VALUE;
+        int released = 0;
+        for (int position = 0; position < count; position++) {
+            AtomicLongArray states = chunks[position >>> CHUNK_BITS].states;
+            int index = position & (CHUNK_SIZE - 1);
+            long current = states.get(index);
+            if (stateOf(current) != HELD) {
+                continue;
+            }
+            if (deadlineOf(current) > now) {
+                earliest = Math.min(earliest, deadlineOf(current));
+            } else if (states.compareAndSet(index, current, AVAILABLE)) {
+                available[typeOf(position)].increment();
+                released++;
+            }
+        }
+        if (earliest != Long.MAX_VALUE) {
+            nextExpiry.accumulateAndGet(earliest, Math::min);
+        }
+        return released;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds a ticket by ID.
+     * @param ticketID The ticket's ID.
+     * @return A view of the ticket, or an empty Optional if it is not in this store.
+     */
+    public synchronized Optional<TicketView> find(int ticketID) {
+        int position = positionOf(ticketID);
+        return position < 0 ? Optional.empty() : Optional.of(new TicketView(this, position));
+    }
+
+    /**
+     * Returns a view of the ticket at a position.
+     * @param position The ticket's position in the store.
+     * @return A view reading the store's columns on demand.
+     */
+    public TicketView view(int position) {
+        checkPosition(position);
+        return new TicketView(this, position);
+    }
+
+    /**
+     * Returns a ticket's state. An expired hold reads as AVAILABLE, a sale being recorded as HELD.
+     * @param position The ticket's position in the store.
+     * @return The ticket's state.
+     */
+    public TicketState stateAt(int position) {
+        long current = chunk(position).states.get(position & (CHUNK_SIZE - 1));
+        if (isClaimable(current)) {
+            return TicketState.AVAILABLE;
+        }
+        return stateOf(current) == SOLD ? TicketState.SOLD : TicketState.HELD;
+    }
+
+    /**
+     * Counts the available tickets of a type, including those whose hold has expired. Constant time, unless a
+     * hold has expired since the last count: then the expired holds are released first.
+     * @param type The ticket type.
+     * @return The number of available tickets.
+     */
+    public int countAvailable(TicketType type) {
+        if (nextExpiry.get() <= nowSeconds()) {
+            releaseExpiredHolds();
+        }
+        // the stripes are summed one by one, so a count taken during transitions can be briefly off
+        return Math.max(0, available[type.ordinal()].intValue());
+    }
+
+    /**
+     * Visits the position of every available ticket, in store order.
+     * @param action Receives each position.
+     */
+    public void forEachAvailable(IntConsumer action) {
+        int count = size;
+        long now = nowSeconds();
+        for (int position = 0; position < count; position++) {
+            if (isClaimable(stateWord(position), now)) {
+                action.accept(position);
+            }
+        }
+    }
+
+    /**
+     * Visits the buyer of every sold ticket, in store order.
+     * @param action Receives the customer ID of each sold ticket.
+     */
+    public void forEachBuyer(IntConsumer action) {
+        int count = size;
+        for (int position = 0; position < count; position++) {
+            long current = stateWord(position);
+            if (stateOf(current) == SOLD) {
+                action.accept(customerOf(current));
+            }
+        }
+    }
+
+    /**
+     * Counts the sold tickets. Constant time: the count is kept up to date by confirm, sell and release.
+     * @return The number of sold tickets.
+     */
+    public int countSold() {
+        return sold.get();
+    }
+
+    /**
+     * Sets the price of every ticket to its base price times the factor of its type, and publishes all the
+     * new prices at once. Sold tickets keep the price recorded with their sale; held tickets are repriced
+     * like available ones, since their price is only fixed when they are sold.
+     * <p>
+     * The new prices are computed branch-free over the base and type columns into a new array, which
+     * replaces the old one in one write. Sales running at the same time record either the old or the new
+     * price.
+     * Tickets appended later are priced with the same factors, unless {@link #priceWith} supplies newer ones.
+     * @param factors The price factor of each {@link TicketType}, indexed by ordinal.
+     * @return The new price version.
+     */
+    public synchronized int reprice(double[] factors) {
+        int[] scale = scaleOf(factors);
+        int[] next = new int[priceCents.length];
+        for (int i = 0; i < size; i++) {
+            next[i] = scaled(basePriceCents[i], scale[types[i]]);
+        }
+        lastScale = scale;
+        priceCents = next;
+        return ++priceVersion;
+    }
+
+    /**
+     * Returns how many times the store has been repriced, so callers can tell whether prices they read
+     * earlier are still current.
+     */
+    public synchronized int priceVersion() {
+        return priceVersion;
+    }
+
+    /**
+     * Returns the total price of every sold ticket.
+     * @return The revenue in cents.
+     */
+    public long soldRevenueCents() {
+        int count = size;
+        long revenue = 0;
+        for (int position = 0; position < count; position++) {
+            if (stateOf(stateWord(position)) == SOLD) {
+                revenue += chunks[position >>> CHUNK_BITS].soldPriceCents[position & (CHUNK_SIZE - 1)];
+            }
+        }
+        return revenue;
+    }
+
+    /**
+     * Sets where tickets appended or released from now on get their price factors, e.g. the
+     * {@link DynamicPricingEngine}'s current factors for the event. Without it they are priced with the
+     * factors of the last {@link #reprice}. The supplier is called under the store's lock and must not
+     * take it.
+     * @param pricing Supplies the price factor of each {@link TicketType}, or null to use the last reprice's.
+     */
+    void priceWith(Supplier<double[]> pricing) {
+        this.pricing = pricing;
+    }
+
+    synchronized int ticketIDAt(int position) {
+        int range = Arrays.binarySearch(rangeStarts, 0, ranges, position);
+        if (range < 0) {
+            range = -range - 2;
+        }
+        return rangeFirstIDs[range] + (position - rangeStarts[range]);
+    }
+
+    synchronized int seatIDAt(int position) {
+        return seatIDs[position];
+    }
+
+    /**
+     * @return The price the ticket was sold at, or its current price if it is not sold.
+     */
+    int priceCentsAt(int position) {
+        Chunk chunk = chunk(position);
+        int index = position & (CHUNK_SIZE - 1);
+        return stateOf(chunk.states.get(index)) == SOLD ? chunk.soldPriceCents[index] : priceCents[position];
+    }
+
+    synchronized TicketType typeAt(int position) {
+        return TYPES[types[position]];
+    }
+
+    /**
+     * @return The customer holding or owning the ticket, or 0 if it is available.
+     */
+    int customerIDAt(int position) {
+        long current = stateWord(position);
+        return isClaimable(current) ? NONE : customerOf(current);
+    }
+
+    /**
+     * @return The cart the ticket was bought through, or 0 if it is not sold.
+     */
+    int cartIDAt(int position) {
+        Chunk chunk = chunk(position);
+        int index = position & (CHUNK_SIZE - 1);
+        return stateOf(chunk.states.get(index)) == SOLD ? chunk.cartIDs[index] : NONE;
+    }
+
+    LocalDateTime purchaseDateAt(int position) {
+        Chunk chunk = chunk(position);
+        int index = position & (CHUNK_SIZE - 1);
+        return stateOf(chunk.states.get(index)) == SOLD
+                ? LocalDateTime.ofEpochSecond(chunk.purchaseEpochs[index], 0, ZoneOffset.UTC)
+                : null;
+    }
+
+    /**
+     * Records a sale on a ticket this thread has moved to SETTLING, then publishes it as SOLD.
+     */
+    private void settle(Chunk chunk, int index, int position, int customerID, int cartID, long purchaseEpoch) {
+        chunk.cartIDs[index] = cartID;
+        chunk.purchaseEpochs[index] = purchaseEpoch;
+        chunk.soldPriceCents[index] = priceCents[position];
+        chunk.states.set(index, word(SOLD, customerID, 0));
+        sold.incrementAndGet();
+    }
+
+    private int typeOf(int position) {
+        return types[position];
+    }
+
+    private long stateWord(int position) {
+        return chunks[position >>> CHUNK_BITS].states.get(position & (CHUNK_SIZE - 1));
+    }
+
+    private Chunk chunk(int position) {
+        checkPosition(position);
+        return chunks[position >>> CHUNK_BITS];
+    }
+
+    /**
+     * @param state AVAILABLE (0), HELD, SOLD or SETTLING.
+     */
+    private static long word(int state, int customerID, long deadline) {
+        return state | (customerID & CUSTOMER_MASK) << 2 | deadline << DEADLINE_SHIFT;
+    }
+
+    private static int stateOf(long word) {
+        return (int) (word & 3);
+    }
+
+    private static int customerOf(long word) {
+        return (int) (word >>> 2 & CUSTOMER_MASK);
+    }
+
+    private static long deadlineOf(long word) {
+        return word >>> DEADLINE_SHIFT;
+    }
+
+    private long deadline(Duration holdFor) {
+        long deadline = nowSeconds() + holdFor.toSeconds();
+        if (holdFor.toSeconds() < 1 || deadline > MAX_DEADLINE) {
+            throw new ValidationException("Hold duration out of range.");
+        }
+        return deadline;
+    }
+
+    private boolean isClaimable(long word) {
+        return isClaimable(word, nowSeconds());
+    }
+
+    private static boolean isClaimable(long word, long now) {
+        int state = stateOf(word);
+        return state == AVAILABLE || state == HELD && deadlineOf(word) <= now;
+    }
+
+    /**
+     * Seconds since the store was created, the unit hold deadlines are kept in.
+     */
+    private long nowSeconds() {
+        return System.currentTimeMillis() / 1000 - epochSecond;
+    }
+
+    private int positionOf(int ticketID) {
+        int slot = rangeSlotOf(ticketID);
+        if (slot < 0) {
+            return -1;
+        }
+        int range = rangesByID[slot];
+        int offset = ticketID - rangeFirstIDs[range];
+        return offset < rangeLength(range) ? rangeStarts[range] + offset : -1;
+    }
+
+    /**
+     * @return The index in {@code rangesByID} of the last range starting at or before the ID, or -1.
+     */
+    private int rangeSlotOf(int ticketID) {
+        int low = 0;
+        int high = ranges - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (rangeFirstIDs[rangesByID[middle]] <= ticketID) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high;
+    }
+
+    private int rangeLength(int range) {
+        return (range + 1 < ranges ? rangeStarts[range + 1] : size) - rangeStarts[range];
+    }
+
+    private void checkPosition(int position) {
+        if (position < 0 || position >= size) {
+            throw new ValidationException("No ticket at position " + position + " for event " + eventID + ".");
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        int chunkCount = (capacity + CHUNK_SIZE - 1) >>> CHUNK_BITS;
+        if (chunkCount > chunks.length) {
+            Chunk[] grown = Arrays.copyOf(chunks, chunkCount);
+            for (int i = chunks.length; i < chunkCount; i++) {
+                grown[i] = new Chunk();
+            }
+            chunks = grown;
+        }
+        if (capacity <= seatIDs.length) {
+            return;
+        }
+        int grown = Math.max(capacity, seatIDs.length + (seatIDs.length >> 1) + 16);
+        seatIDs = Arrays.copyOf(seatIDs, grown);
+        basePriceCents = Arrays.copyOf(basePriceCents, grown);
+        priceCents = Arrays.copyOf(priceCents, grown);
+        types = Arrays.copyOf(types, grown);
+    }
+
+    private static int scaled(int cents, int scale) {
+        long price = ((long) cents * scale + SCALE / 2) / SCALE;
+        return (int) Math.min(price, Integer.MAX_VALUE);
+    }
+
+    private int[] currentScale() {
+        Supplier<double[]> source = pricing;
+        return source == null ? lastScale : scaleOf(source.get());
+    }
+
+    private static int[] scaleOf(double[] factors) {
+        if (factors.length != TYPES.length) {
+            throw new ValidationException("A price factor is needed for every ticket type.");
+        }
+        int[] scale = new int[TYPES.length];
+        for (int type = 0; type < scale.length; type++) {
+            if (!(factors[type] >= 0) || factors[type] * SCALE > Integer.MAX_VALUE) {
+                throw new ValidationException("Price factor out of range.");
+            }
+            scale[type] = (int) Math.round(factors[type] * SCALE);
+        }
+        return scale;
+    }
+
+    private static LongAdder[] newCounters() {
+        LongAdder[] counters = new LongAdder[TYPES.length];
+        for (int type = 0; type < counters.length; type++) {
+            counters[type] = new LongAdder();
+        }
+        return counters;
+    }
+
+    private static int[] uniformScale() {
+        int[] scale = new int[TYPES.length];
+        Arrays.fill(scale, SCALE);
+        return scale;
+    }
+
+    static int toCents(double price) {
+        if (price < 0 || price * 100 > Integer.MAX_VALUE) {
+            throw new ValidationException("Price out of range.");
+        }
+        return (int) Math.round(price * 100);
+    }
+}
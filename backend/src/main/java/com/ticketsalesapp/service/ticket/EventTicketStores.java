@@ -0,0 +1,45 @@
+package com.ticketsalesapp.service.ticket;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Registry of the columnar ticket stores, one per event.
+ */
+@Component
+public class EventTicketStores {
+    private final Map<Integer, EventTicketStore> stores = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the store of an event, creating an empty one on first use.
+     * @param eventID The event's ID.
+     * @return The event's ticket store.
+     */
+    public EventTicketStore forEvent(int eventID) {
+        return stores.computeIfAbsent(eventID, EventTicketStore::new);
+    }
+
+    public Optional<EventTicketStore> find(int eventID) {
+        return Optional.ofNullable(stores.get(eventID));
+    }
+
+    /**
+     * Visits every event's store.
+     * @param action Receives each store.
+     */
+    public void forEach(Consumer<EventTicketStore> action) {
+        stores.values().forEach(action);
+    }
+
+    /**
+     * Drops an event's tickets, e.g. when the event is deleted.
+     * @param eventID The event's ID.
+     */
+    public void remove(int eventID) {
+        stores.remove(eventID);
+    }
+}
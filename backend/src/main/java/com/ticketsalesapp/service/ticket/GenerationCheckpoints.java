@@ -0,0 +1,24 @@
+package com.ticketsalesapp.service.ticket;
+
+/**
+ * Records how far the {@link TicketGenerationPipeline} got in every section of an event, so an interrupted run
+ * can resume. A checkpoint is only worth as much as the tickets it vouches for: keep it exactly as long as the
+ * store the batches are written to, e.g. {@link EventTicketStore#generationCheckpoints()} for that store.
+ */
+public interface GenerationCheckpoints {
+    /**
+     * @return The number of tickets of the section that are known to be written, 0 if none.
+     */
+    int completed(int eventID, int sectionID);
+
+    /**
+     * Records that the first {@code completed} tickets of a section are written. A lower count than the one
+     * already recorded is ignored.
+     */
+    void record(int eventID, int sectionID, int completed);
+
+    /**
+     * Drops every checkpoint of an event, e.g. when its generation finished or was abandoned.
+     */
+    void clear(int eventID);
+}
@@ -0,0 +1,31 @@
+package com.ticketsalesapp.service.ticket;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps generation checkpoints in memory, for sinks that are in memory themselves: both are lost on restart,
+ * so a restarted generation never skips tickets that are gone.
+ */
+public class InMemoryGenerationCheckpoints implements GenerationCheckpoints {
+    private final Map<Long, Integer> completed = new ConcurrentHashMap<>();
+
+    @Override
+    public int completed(int eventID, int sectionID) {
+        return completed.getOrDefault(key(eventID, sectionID), 0);
+    }
+
+    @Override
+    public void record(int eventID, int sectionID, int completed) {
+        this.completed.merge(key(eventID, sectionID), completed, Math::max);
+    }
+
+    @Override
+    public void clear(int eventID) {
+        completed.keySet().removeIf(key -> (int) (key >>> 32) == eventID);
+    }
+
+    private static long key(int eventID, int sectionID) {
+        return (long) eventID << 32 | sectionID & 0xFFFF_FFFFL;
+    }
+}
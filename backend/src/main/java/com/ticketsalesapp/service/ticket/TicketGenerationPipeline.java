@@ -0,0 +1,181 @@
+package com.ticketsalesapp.service.ticket;
+
+import com.ticketsalesapp.exception.BusinessLogicException;
+import com.ticketsalesapp.exception.ValidationException;
+import com.ticketsalesapp.model.ticket.TicketType;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Generates the tickets of an event section by section, in parallel, and hands them to a writer in batches.
+ * <p>
+ * Seats are numbered across sections in the order given, and the ticket types are laid over that numbering
+ * (e.g. the first N seats are EARLY_BIRD, the next M VIP, the rest STANDARD), so every section knows its types
+ * without looking at the others. Ticket IDs follow the same numbering from the first ID of the plan, so a
+ * batch gets the same IDs however often it is generated. Within a section batches are written in order, and
+ * after each batch the number of tickets done is recorded in the caller's {@link GenerationCheckpoints}. If
+ * generation is interrupted, running it again with the same plan and checkpoints resumes after the last
+ * recorded batch of every section.
+ * <p>
+ * A batch is written before its checkpoint, so a crash in between writes that batch again on resume: the
+ * {@link TicketBatchWriter} must be idempotent per {@code (eventID, sectionID, offset)}. Sections run in
+ * parallel, so batches also reach the writer out of ID order. Once every section is done the event's
+ * checkpoints are cleared, so the event can be generated again later, e.g. after its tickets were deleted.
+ */
+@Component
+public class TicketGenerationPipeline {
+    private static final int DEFAULT_BATCH_SIZE = 1_000;
+
+    private final int batchSize;
+
+    /**
+     * The seats of one section that tickets are generated for, in seat order.
+     * General-admission sections use seat ID 0 for every place.
+     * @param sectionID The section's ID.
+     * @param seatIDs   The seat IDs.
+     */
+    public record SectionSeats(int sectionID, int[] seatIDs) {
+        public static SectionSeats generalAdmission(int sectionID, int capacity) {
+            return new SectionSeats(sectionID, new int[capacity]);
+        }
+    }
+
+    /**
+     * How many tickets of a type to generate and at what price.
+     * @param type      The ticket type.
+     * @param count     The number of tickets.
+     * @param basePrice The untiered price of each ticket. The {@link DynamicPricingEngine} applies the
+     *                  days-to-event and demand factors on top, so a price that already includes them is
+     *                  charged twice.
+     */
+    public record TypeAllocation(TicketType type, int count, double basePrice) {
+    }
+
+    /**
+     * A batch of generated tickets, all in one section; the arrays are aligned by index.
+     * {@code (eventID, sectionID, offset)} identifies the batch, also when it is written again after a restart,
+     * and always comes with the same ticket IDs.
+     * @param offset        The position of the batch's first ticket within its section.
+     * @param firstTicketID The ID of the batch's first ticket; the others follow consecutively.
+     * @param basePrices    The untiered price of each ticket, from its {@link TypeAllocation}.
+     */
+    public record TicketBatch(int eventID, int sectionID, int offset, int firstTicketID, int[] seatIDs,
+                              TicketType[] types, double[] basePrices) {
+    }
+
+    /**
+     * Generation progress, reported after every batch.
+     * @param generated The number of tickets generated so far, including those from an earlier run.
+     * @param total     The number of tickets the plan generates.
+     */
+    public record Progress(int generated, int total) {
+    }
+
+    /**
+     * Persists a batch of tickets, e.g. through {@link EventTicketStore#append(TicketBatch)}. Called from several
+     * threads, in no particular ID order. The same batch may be written again after a crash, so writing must be
+     * idempotent: skip or overwrite a batch whose {@code (eventID, sectionID, offset)} is already stored.
+     */
+    @FunctionalInterface
+    public interface TicketBatchWriter {
+        void write(TicketBatch batch);
+    }
+
+    public TicketGenerationPipeline() {
+        this(DEFAULT_BATCH_SIZE);
+    }
+
+    public TicketGenerationPipeline(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive.");
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Generates an event's tickets, resuming from the last checkpoint of every section, and clears the
+     * checkpoints once all sections are done.
+     * @param eventID       The event's ID.
+     * @param firstTicketID The ID of the plan's first ticket; the others are numbered consecutively.
+     * @param sections      The seats to generate tickets for, section by section.
+     * @param allocations   The ticket types in the order they are laid over the seats.
+     * @param writer        Persists each batch.
+     * @param checkpoints   Where progress is recorded; must live exactly as long as what the writer writes to.
+     * @param progress      Receives progress after each batch; called from several threads.
+     * @return The number of tickets generated by this run.
+     */
+    public int generate(int eventID, int firstTicketID, List<SectionSeats> sections,
+                        List<TypeAllocation> allocations, TicketBatchWriter writer,
+                        GenerationCheckpoints checkpoints, Consumer<Progress> progress) {
+        int[] typeEnds = new int[allocations.size()];
+        int total = 0;
+        for (int i = 0; i < allocations.size(); i++) {
+            if (allocations.get(i).count() < 0) {
+                throw new ValidationException("Ticket count cannot be negative.");
+            }
+            total += allocations.get(i).count();
+            typeEnds[i] = total;
+        }
+        int[] sectionStarts = new int[sections.size()];
+        int seats = 0;
+        for (int i = 0; i < sections.size(); i++) {
+            sectionStarts[i] = seats;
+            seats += sections.get(i).seatIDs().length;
+        }
+        if (seats < total) {
+            throw new BusinessLogicException("Not enough available seats to generate tickets.");
+        }
+        if (firstTicketID <= 0 || (long) firstTicketID + total - 1 > Integer.MAX_VALUE) {
+            throw new ValidationException("Ticket IDs out of range.");
+        }
+
+        int planned = total;
+        AtomicInteger generated = new AtomicInteger();
+        int[] resumedFrom = new int[sections.size()];
+        for (int i = 0; i < sections.size(); i++) {
+            resumedFrom[i] = checkpoints.completed(eventID, sections.get(i).sectionID());
+            generated.addAndGet(Math.min(resumedFrom[i], ticketsInSection(sectionStarts[i], sections.get(i), planned)));
+        }
+        int before = generated.get();
+        IntStream.range(0, sections.size()).parallel().forEach(i -> {
+            SectionSeats section = sections.get(i);
+            int end = ticketsInSection(sectionStarts[i], section, planned);
+            for (int from = resumedFrom[i]; from < end; from += batchSize) {
+                int to = Math.min(from + batchSize, end);
+                writer.write(batch(eventID, firstTicketID, section, sectionStarts[i], from, to, allocations,
+                        typeEnds));
+                checkpoints.record(eventID, section.sectionID(), to);
+                progress.accept(new Progress(generated.addAndGet(to - from), planned));
+            }
+        });
+        checkpoints.clear(eventID);
+        return generated.get() - before;
+    }
+
+    private static int ticketsInSection(int sectionStart, SectionSeats section, int total) {
+        return Math.max(0, Math.min(section.seatIDs().length, total - sectionStart));
+    }
+
+    private static TicketBatch batch(int eventID, int firstTicketID, SectionSeats section, int sectionStart,
+                                     int from, int to, List<TypeAllocation> allocations, int[] typeEnds) {
+        int size = to - from;
+        TicketType[] types = new TicketType[size];
+        double[] prices = new double[size];
+        int allocation = 0;
+        for (int i = 0; i < size; i++) {
+            int seatNumber = sectionStart + from + i;
+            while (typeEnds[allocation] <= seatNumber) {
+                allocation++;
+            }
+            types[i] = allocations.get(allocation).type();
+            prices[i] = allocations.get(allocation).basePrice();
+        }
+        return new TicketBatch(eventID, section.sectionID(), from, firstTicketID + sectionStart + from,
+                Arrays.copyOfRange(section.seatIDs(), from, to), types, prices);
+    }
+}
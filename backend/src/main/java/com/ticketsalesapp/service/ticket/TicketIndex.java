@@ -0,0 +1,151 @@
+package com.ticketsalesapp.service.ticket;
+
+import com.ticketsalesapp.service.schedule.IntSet;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Ticket IDs grouped by event, by customer and by cart, replacing the {@code getAll().stream().filter(...)}
+ * scans over the whole ticket table. Each group is a primitive {@link IntSet}, so "my tickets" or a cart
+ * is read in O(k) for k tickets instead of O(all tickets ever sold).
+ */
+@Component
+public class TicketIndex {
+    /**
+     * Marks a ticket that has no customer or no cart.
+     */
+    public static final int NONE = 0;
+    private static final int[] EMPTY = new int[0];
+
+    private final Map<Integer, IntSet> byEvent = new HashMap<>();
+    private final Map<Integer, IntSet> byCustomer = new HashMap<>();
+    private final Map<Integer, IntSet> byCart = new HashMap<>();
+    private final Map<Integer, Owners> owners = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private record Owners(int eventID, int customerID, int cartID) {
+    }
+
+    /**
+     * Indexes a ticket, or moves it after its customer or cart changed.
+     * @param ticketID   The ticket's ID.
+     * @param eventID    The event the ticket is for.
+     * @param customerID The customer holding the ticket, or {@link #NONE}.
+     * @param cartID     The cart the ticket is in, or {@link #NONE}.
+     */
+    public void put(int ticketID, int eventID, int customerID, int cartID) {
+        Owners current = new Owners(eventID, customerID, cartID);
+        lock.writeLock().lock();
+        try {
+            Owners previous = owners.put(ticketID, current);
+            if (previous == null) {
+                attach(byEvent, eventID, ticketID);
+                attach(byCustomer, customerID, ticketID);
+                attach(byCart, cartID, ticketID);
+                return;
+            }
+            move(byEvent, previous.eventID, eventID, ticketID);
+            move(byCustomer, previous.customerID, customerID, ticketID);
+            move(byCart, previous.cartID, cartID, ticketID);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a ticket from every group.
+     * @param ticketID The ticket's ID.
+     */
+    public void remove(int ticketID) {
+        lock.writeLock().lock();
+        try {
+            Owners previous = owners.remove(ticketID);
+            if (previous != null) {
+                detach(byEvent, previous.eventID, ticketID);
+                detach(byCustomer, previous.customerID, ticketID);
+                detach(byCart, previous.cartID, ticketID);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the tickets of an event.
+     * @param eventID The event's ID.
+     * @return The ticket IDs in ascending order.
+     */
+    public int[] ticketsForEvent(int eventID) {
+        return members(byEvent, eventID);
+    }
+
+    /**
+     * Returns the tickets held by a customer.
+     * @param customerID The customer's ID.
+     * @return The ticket IDs in ascending order.
+     */
+    public int[] ticketsForCustomer(int customerID) {
+        return members(byCustomer, customerID);
+    }
+
+    /**
+     * Returns the tickets in a cart.
+     * @param cartID The cart's ID.
+     * @return The ticket IDs in ascending order.
+     */
+    public int[] ticketsInCart(int cartID) {
+        return members(byCart, cartID);
+    }
+
+    /**
+     * Counts the tickets of an event without copying them out.
+     * @param eventID The event's ID.
+     * @return The number of tickets indexed for the event.
+     */
+    public int countForEvent(int eventID) {
+        lock.readLock().lock();
+        try {
+            IntSet tickets = byEvent.get(eventID);
+            return tickets == null ? 0 : tickets.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int[] members(Map<Integer, IntSet> groups, int key) {
+        if (key == NONE) {
+            return EMPTY;
+        }
+        lock.readLock().lock();
+        try {
+            IntSet tickets = groups.get(key);
+            return tickets == null ? EMPTY : tickets.toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void move(Map<Integer, IntSet> groups, int from, int to, int ticketID) {
+        if (from != to) {
+            detach(groups, from, ticketID);
+            attach(groups, to, ticketID);
+        }
+    }
+
+    private static void attach(Map<Integer, IntSet> groups, int key, int ticketID) {
+        if (key != NONE) {
+            groups.computeIfAbsent(key, k -> new IntSet()).add(ticketID);
+        }
+    }
+
+    private static void detach(Map<Integer, IntSet> groups, int key, int ticketID) {
+        IntSet tickets = key == NONE ? null : groups.get(key);
+        if (tickets != null && tickets.remove(ticketID) && tickets.isEmpty()) {
+            groups.remove(key);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.ticketsalesapp.service.ticket;
+
+import com.ticketsalesapp.model.ticket.TicketState;
+import com.ticketsalesapp.model.ticket.TicketType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flyweight view of one ticket in an {@link EventTicketStore}. It holds only the store and a position;
+ * every getter reads the store's columns, so it always shows the ticket's current state.
+ */
+public class TicketView {
+    private final EventTicketStore store;
+    private final int position;
+
+    TicketView(EventTicketStore store, int position) {
+        this.store = store;
+        this.position = position;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public int getTicketID() {
+        return store.ticketIDAt(position);
+    }
+
+    public int getEventID() {
+        return store.getEventID();
+    }
+
+    /**
+     * @return The seat's ID, or 0 for general admission.
+     */
+    public int getSeatID() {
+        return store.seatIDAt(position);
+    }
+
+    public double getPrice() {
+        return store.priceCentsAt(position) / 100.0;
+    }
+
+    public TicketType getTicketType() {
+        return store.typeAt(position);
+    }
+
+    public TicketState getState() {
+        return store.stateAt(position);
+    }
+
+    public boolean isSold() {
+        return getState() == TicketState.SOLD;
+    }
+
+    /**
+     * @return The ID of the customer holding or owning the ticket, or 0 if it is available.
+     */
+    public int getCustomerID() {
+        return store.customerIDAt(position);
+    }
+
+    /**
+     * @return The ID of the cart the ticket was bought through, or 0.
+     */
+    public int getCartID() {
+        return store.cartIDAt(position);
+    }
+
+    /**
+     * @return When the ticket was bought, or null if it is not sold.
+     */
+    public LocalDateTime getPurchaseDate() {
+        return store.purchaseDateAt(position);
+    }
+
+    @Override
+    public String toString() {
+        return "Ticket{" +
+                "ticketID=" + getTicketID() +
+                ", eventID=" + getEventID() +
+                ", seatID=" + getSeatID() +
+                ", price=" + getPrice() +
+                ", ticketType=" + getTicketType() +
+                ", state=" + getState() +
+                '}';
+    }
+}
@@ -1,10 +1,13 @@
 package com.ticketsalesapp.service.user;
 
 import com.ticketsalesapp.exception.BusinessLogicException;
+import com.ticketsalesapp.exception.TooManyAttemptsException;
 import com.ticketsalesapp.exception.ValidationException;
 import com.ticketsalesapp.model.user.Admin;
 import com.ticketsalesapp.repository.Repository;
 import com.ticketsalesapp.repository.factory.RepositoryFactory;
+import com.ticketsalesapp.repository.id.IdGenerator;
+import com.ticketsalesapp.repository.id.IdSequence;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,11 +16,21 @@ import java.util.List;
 public class AdminService {
 
     private final Repository<Admin> adminRepository;
+    private final IdSequence adminIds;
+    private final PasswordHasher passwordHasher;
+    private final UserDirectory userDirectory;
+    private final LoginThrottle loginThrottle;
     private final UserSession userSession;
 
-    public AdminService(RepositoryFactory repositoryFactory, UserSession userSession) {
+    public AdminService(RepositoryFactory repositoryFactory, IdGenerator idGenerator, PasswordHasher passwordHasher,
+                        UserDirectory userDirectory, LoginThrottle loginThrottle, UserSession userSession) {
         this.adminRepository = repositoryFactory.createAdminRepository();
+        this.adminIds = idGenerator.sequenceFor(Admin.class, adminRepository);
+        this.passwordHasher = passwordHasher;
+        this.userDirectory = userDirectory;
+        this.loginThrottle = loginThrottle;
         this.userSession = userSession;
+        adminRepository.getAll().forEach(userDirectory::register);
     }
 
     public void createAdmin(String username, String email, String password) {
@@ -30,40 +43,53 @@ public class AdminService {
         if (!domainEmail(email)) {
             throw new ValidationException("Invalid email domain.");
         }
-        Admin admin = new Admin(generateNewId(), username, email, password);
+        Admin admin = new Admin(adminIds.next(), username, email, passwordHasher.hash(password));
+        if (!userDirectory.register(admin)) {
+            throw new ValidationException("Username already taken.");
+        }
         adminRepository.create(admin);
     }
 
     public boolean usernameExists(String username) {
-        return adminRepository.getAll().stream().anyMatch(a -> a.getUsername().equals(username));
+        return userDirectory.usernameExists(username);
     }
 
     public boolean domainEmail(String email) {
         return email.endsWith("@tsc.com");
     }
 
-    public Admin login(String username, String password) throws BusinessLogicException {
+    /**
+     * Logs in from the local console, which has no client address; only the username is throttled.
+     * @see #login(String, String, String)
+     */
+    public String login(String username, String password) throws BusinessLogicException {
+        return login(username, password, null);
+    }
+
+    /**
+     * @param clientAddress The address the attempt comes from, used for throttling; null if it has none.
+     * @return The session token the client presents with later calls.
+     * @throws TooManyAttemptsException if the username or client has made too many attempts recently.
+     */
+    public String login(String username, String password, String clientAddress) throws BusinessLogicException {
         if (username == null || username.trim().isEmpty()) {
             throw new BusinessLogicException("Username cannot be empty");
         }
         if (password == null || password.trim().isEmpty()) {
             throw new BusinessLogicException("Password cannot be empty");
         }
+        loginThrottle.acquire(username, clientAddress);
 
-        Admin admin = adminRepository.getAll().stream()
-                .filter(a -> a.getUsername().equals(username) && a.getPassword().equals(password))
-                .findFirst()
+        Admin admin = userDirectory.authenticate(username, password)
+                .filter(user -> user instanceof Admin)
+                .map(user -> (Admin) user)
                 .orElseThrow(() -> new BusinessLogicException("Invalid credentials"));
 
-        userSession.setCurrentUser(admin);
-        return admin;
+        return userSession.open(admin);
     }
 
-    public void logout() throws BusinessLogicException {
-        if (userSession.getCurrentUser().isEmpty()) {
-            throw new BusinessLogicException("No user is currently logged in");
-        }
-        userSession.logout();
+    public void logout(String sessionToken) throws BusinessLogicException {
+        userSession.logout(sessionToken);
     }
 
     public List<Admin> getAllAdmins() {
@@ -76,22 +102,14 @@ public class AdminService {
     }
 
     public void deleteAdmin(int id) {
-       findAdminById(id);
+       Admin admin = findAdminById(id);
        adminRepository.delete(id);
+       userDirectory.unregister(admin);
+       userSession.closeAll(admin);
     }
 
-    private int generateNewId() {
-        return adminRepository.getAll().stream()
-                .mapToInt(Admin::getId)
-                .max()
-                .orElse(0) + 1;
-    }
-
-    public Admin getCurrentAdmin() {
-        return userSession.getCurrentUser()
-                .filter(user -> user instanceof Admin)
-                .map(user -> (Admin) user)
-                .orElseThrow(() -> new BusinessLogicException("No customer is logged in."));
+    public Admin getCurrentAdmin(String sessionToken) {
+        return userSession.requireAdmin(sessionToken);
     }
 
     private void validateInput(String value, String errorMessage) {
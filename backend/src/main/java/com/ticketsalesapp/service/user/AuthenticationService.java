@@ -0,0 +1,64 @@
+package com.ticketsalesapp.service.user;
+
+import com.ticketsalesapp.exception.BusinessLogicException;
+import com.ticketsalesapp.exception.ServiceUnavailableException;
+import com.ticketsalesapp.exception.TooManyAttemptsException;
+import com.ticketsalesapp.model.user.User;
+import org.springframework.stereotype.Service;
+
+/**
+ * Role-agnostic login: one credential check resolves whether the user is an admin or a customer.
+ */
+@Service
+public class AuthenticationService {
+
+    private final UserDirectory userDirectory;
+    private final LoginThrottle loginThrottle;
+    private final UserSession userSession;
+
+    public AuthenticationService(UserDirectory userDirectory, LoginThrottle loginThrottle, UserSession userSession) {
+        this.userDirectory = userDirectory;
+        this.loginThrottle = loginThrottle;
+        this.userSession = userSession;
+    }
+
+    /**
+     * Logs a user in from the local console, whatever their role. The console has no client address, so
+     * only the username is throttled.
+     * @see #login(String, String, String)
+     */
+    public String login(String username, String password) throws BusinessLogicException {
+        return login(username, password, null);
+    }
+
+    /**
+     * Logs a user in, whatever their role.
+     * @param username      The username.
+     * @param password      The plaintext password.
+     * @param clientAddress The address the attempt comes from, used for throttling; null if it has none.
+     * @return The session token the client presents with later calls; it resolves to the admin or customer.
+     * @throws BusinessLogicException if the input is empty or the credentials are invalid.
+     * @throws TooManyAttemptsException if the username or client has made too many attempts recently.
+     * @throws ServiceUnavailableException if the password check could not run because the hasher is overloaded.
+     */
+    public String login(String username, String password, String clientAddress) throws BusinessLogicException {
+        if (username == null || username.trim().isEmpty()) {
+            throw new BusinessLogicException("Username cannot be empty");
+        }
+        if (password == null || password.trim().isEmpty()) {
+            throw new BusinessLogicException("Password cannot be empty");
+        }
+        loginThrottle.acquire(username, clientAddress);
+        User user = userDirectory.authenticate(username, password)
+                .orElseThrow(() -> new BusinessLogicException("Invalid credentials"));
+        return userSession.open(user);
+    }
+
+    public void logout(String sessionToken) throws BusinessLogicException {
+        userSession.logout(sessionToken);
+    }
+
+    public boolean hasUsers() {
+        return userDirectory.hasUsers();
+    }
+}
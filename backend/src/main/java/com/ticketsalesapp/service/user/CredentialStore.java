@@ -0,0 +1,76 @@
+package com.ticketsalesapp.service.user;
+
+import com.ticketsalesapp.model.user.User;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Username-keyed index of users and their password hashes, so a login is one map lookup plus one hash check
+ * instead of a scan over every user.
+ */
+public class CredentialStore {
+    private final Map<String, Credential> credentials = new ConcurrentHashMap<>();
+    private final PasswordHasher passwordHasher;
+    private final String dummyHash;
+
+    public CredentialStore(PasswordHasher passwordHasher) {
+        this.passwordHasher = passwordHasher;
+        this.dummyHash = passwordHasher.hash("dummy-password");
+    }
+
+    /**
+     * Claims a username for a user.
+     * @param username    The username to claim.
+     * @param user        The user owning the username.
+     * @param encodedHash The user's password hash, as produced by {@link PasswordHasher#hash(String)}.
+     * @return true if the username was free and is now taken; false if it was already in use.
+     */
+    public boolean add(String username, User user, String encodedHash) {
+        return credentials.putIfAbsent(username, new Credential(user, encodedHash)) == null;
+    }
+
+    /**
+     * Releases a username.
+     * @param username The username to release.
+     * @return The user who held the username, or an empty Optional if it was not in use.
+     */
+    public Optional<User> remove(String username) {
+        return Optional.ofNullable(credentials.remove(username)).map(Credential::user);
+    }
+
+    public boolean contains(String username) {
+        return credentials.containsKey(username);
+    }
+
+    /**
+     * Returns the user holding a username, without checking any password.
+     * @param username The username to look up.
+     * @return The user, or an empty Optional if the username is not in use.
+     */
+    public Optional<User> find(String username) {
+        return Optional.ofNullable(credentials.get(username)).map(Credential::user);
+    }
+
+    /**
+     * Checks a username and password pair.
+     * Unknown usernames are checked against a dummy hash so that they take as long as wrong passwords.
+     * @param username The username to check.
+     * @param password The plaintext password to check.
+     * @return The matching user, or an empty Optional if the credentials are invalid.
+     */
+    public Optional<User> verify(String username, String password) {
+        Credential credential = credentials.get(username);
+        if (credential == null) {
+            passwordHasher.matches(password, dummyHash);
+            return Optional.empty();
+        }
+        return passwordHasher.matches(password, credential.encodedHash())
+                ? Optional.of(credential.user())
+                : Optional.empty();
+    }
+
+    private record Credential(User user, String encodedHash) {
+    }
+}
@@ -1,11 +1,16 @@
 package com.ticketsalesapp.service.user;
 
 import com.ticketsalesapp.exception.BusinessLogicException;
+import com.ticketsalesapp.exception.TooManyAttemptsException;
 import com.ticketsalesapp.exception.ValidationException;
+import com.ticketsalesapp.model.event.Event;
 import com.ticketsalesapp.model.user.Customer;
 import com.ticketsalesapp.model.user.FavouriteEntity;
 import com.ticketsalesapp.repository.Repository;
 import com.ticketsalesapp.repository.factory.RepositoryFactory;
+import com.ticketsalesapp.repository.id.IdGenerator;
+import com.ticketsalesapp.repository.id.IdSequence;
+import com.ticketsalesapp.service.suggestion.EventSuggestionEngine;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -15,11 +20,27 @@ import java.util.Set;
 public class CustomerService {
 
     private final Repository<Customer> customerRepository;
+    private final IdSequence customerIds;
+    private final PasswordHasher passwordHasher;
+    private final UserDirectory userDirectory;
+    private final LoginThrottle loginThrottle;
     private final UserSession userSession;
+    private final EventSuggestionEngine suggestionEngine;
 
-    public CustomerService(RepositoryFactory repositoryFactory, UserSession userSession) {
+    public CustomerService(RepositoryFactory repositoryFactory, IdGenerator idGenerator, PasswordHasher passwordHasher,
+                           UserDirectory userDirectory, LoginThrottle loginThrottle, UserSession userSession,
+                           EventSuggestionEngine suggestionEngine) {
         this.customerRepository = repositoryFactory.createCustomerRepository();
+        this.customerIds = idGenerator.sequenceFor(Customer.class, customerRepository);
+        this.passwordHasher = passwordHasher;
+        this.userDirectory = userDirectory;
+        this.loginThrottle = loginThrottle;
         this.userSession = userSession;
+        this.suggestionEngine = suggestionEngine;
+        for (Customer customer : customerRepository.getAll()) {
+            userDirectory.register(customer);
+            customer.getFavourites().forEach(favourite -> suggestionEngine.favouriteAdded(customer.getId(), favourite));
+        }
     }
 
     public void createCustomer(String username, String email, String password) {
@@ -29,36 +50,49 @@ public class CustomerService {
         if (usernameExists(username)) {
             throw new ValidationException("Username already taken.");
         }
-        Customer customer = new Customer(generateNewId(), username, email, password);
+        Customer customer = new Customer(customerIds.next(), username, email, passwordHasher.hash(password));
+        if (!userDirectory.register(customer)) {
+            throw new ValidationException("Username already taken.");
+        }
         customerRepository.create(customer);
     }
 
     public boolean usernameExists(String username) {
-        return customerRepository.getAll().stream().anyMatch(c -> c.getUsername().equals(username));
+        return userDirectory.usernameExists(username);
+    }
+
+    /**
+     * Logs in from the local console, which has no client address; only the username is throttled.
+     * @see #login(String, String, String)
+     */
+    public String login(String username, String password) throws BusinessLogicException {
+        return login(username, password, null);
     }
 
-    public Customer login(String username, String password) throws BusinessLogicException {
+    /**
+     * @param clientAddress The address the attempt comes from, used for throttling; null if it has none.
+     * @return The session token the client presents with later calls.
+     * @throws TooManyAttemptsException if the username or client has made too many attempts recently.
+     */
+    public String login(String username, String password, String clientAddress) throws BusinessLogicException {
         if (username == null || username.trim().isEmpty()) {
             throw new BusinessLogicException("Username cannot be empty");
         }
         if (password == null || password.trim().isEmpty()) {
             throw new BusinessLogicException("Password cannot be empty");
         }
+        loginThrottle.acquire(username, clientAddress);
 
-        Customer customer = customerRepository.getAll().stream()
-                .filter(a -> a.getUsername().equals(username) && a.getPassword().equals(password))
-                .findFirst()
+        Customer customer = userDirectory.authenticate(username, password)
+                .filter(user -> user instanceof Customer)
+                .map(user -> (Customer) user)
                 .orElseThrow(() -> new BusinessLogicException("Invalid credentials"));
 
-        userSession.setCurrentUser(customer);
-        return customer;
+        return userSession.open(customer);
     }
 
-    public void logout() throws BusinessLogicException {
-        if (userSession.getCurrentUser().isEmpty()) {
-            throw new BusinessLogicException("No user is currently logged in");
-        }
-        userSession.logout();
+    public void logout(String sessionToken) throws BusinessLogicException {
+        userSession.logout(sessionToken);
     }
 
     public List<Customer> getAllCustomers() {
@@ -71,55 +105,60 @@ public class CustomerService {
     }
 
     public void deleteCustomer(int id) {
-        findCustomerById(id);
+        Customer customer = findCustomerById(id);
         customerRepository.delete(id);
+        userDirectory.unregister(customer);
+        userSession.closeAll(customer);
+        suggestionEngine.forgetCustomer(id);
     }
 
-    public void addFavourite(FavouriteEntity item) {
+    public void addFavourite(String sessionToken, FavouriteEntity item) {
         if (item == null) {
             throw new ValidationException("Cannot add a null item to favourites.");
         }
-        Customer customer = getCurrentCustomer();
+        Customer customer = getCurrentCustomer(sessionToken);
         if (customer.getFavourites().contains(item)) {
             throw new BusinessLogicException("Item is already in the favourites.");
         }
         customer.addFavourite(item);
+        suggestionEngine.favouriteAdded(customer.getId(), item);
     }
 
-    public void removeFavourite(FavouriteEntity item) {
+    public void removeFavourite(String sessionToken, FavouriteEntity item) {
         if (item == null) {
             throw new ValidationException("Cannot remove a null item from favourites.");
         }
-        Customer customer = getCurrentCustomer();
+        Customer customer = getCurrentCustomer(sessionToken);
         if (!customer.getFavourites().contains(item)) {
             throw new ValidationException("Item is not in the favourites.");
         }
         customer.removeFavourite(item);
+        suggestionEngine.favouriteRemoved(customer.getId(), item);
     }
 
-    public Set<FavouriteEntity> getFavourites() {
-        return getCurrentCustomer().getFavourites();
+    public Set<FavouriteEntity> getFavourites(String sessionToken) {
+        return getCurrentCustomer(sessionToken).getFavourites();
     }
 
-    public Customer getCurrentCustomer() {
-        return userSession.getCurrentUser()
-                .filter(user -> user instanceof Customer)
-                .map(user -> (Customer) user)
-                .orElseThrow(() -> new BusinessLogicException("No customer is logged in."));
+    /**
+     * Returns the events suggested to the logged-in customer from their favourites, best match first.
+     * @param sessionToken The customer's session token.
+     * @param limit        The maximum number of events.
+     * @return The suggested events.
+     */
+    public List<Event> getSuggestedEvents(String sessionToken, int limit) {
+        return suggestionEngine.suggestionsFor(getCurrentCustomer(sessionToken).getId(), limit);
     }
 
-    private int generateNewId() {
-        return customerRepository.getAll().stream()
-                .mapToInt(Customer::getId)
-                .max()
-                .orElse(0) + 1;
+    public Customer getCurrentCustomer(String sessionToken) {
+        return userSession.requireCustomer(sessionToken);
     }
 
     public Customer findByUsernameAndPassword(String username, String password)
         throws BusinessLogicException {
-        return customerRepository.getAll().stream()
-            .filter(c -> c.getUsername().equals(username) && c.getPassword().equals(password))
-            .findFirst()
+        return userDirectory.authenticate(username, password)
+            .filter(user -> user instanceof Customer)
+            .map(user -> (Customer) user)
             .orElseThrow(() -> new BusinessLogicException("Customer not found"));
         }
 
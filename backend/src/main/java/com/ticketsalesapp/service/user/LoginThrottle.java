@@ -0,0 +1,111 @@
+package com.ticketsalesapp.service.user;
+
+import com.ticketsalesapp.exception.TooManyAttemptsException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rate-limits login attempts per username and per client address, in front of the (expensive) password check.
+ * <p>
+ * Each key has a token bucket stored as a single atomic "theoretical arrival time": an attempt is allowed if the
+ * bucket is not more than {@code burst} intervals ahead of now, and then pushes the time one interval further.
+ * Updating a bucket is one compare-and-set, with no locks. Buckets that have refilled completely carry no state,
+ * so they are dropped by a sweep that runs every few thousand attempts.
+ * <p>
+ * Callers without a network address, like the local console, pass no client address and are throttled by
+ * username only; a shared placeholder address would turn the client bucket into one global bucket.
+ */
+@Component
+public class LoginThrottle {
+    private static final int DEFAULT_USERNAME_BURST = 5;
+    private static final Duration DEFAULT_USERNAME_INTERVAL = Duration.ofSeconds(12);
+    private static final int DEFAULT_CLIENT_BURST = 20;
+    private static final Duration DEFAULT_CLIENT_INTERVAL = Duration.ofSeconds(3);
+    private static final int CLEANUP_EVERY = 4096;
+
+    private final Limit usernameLimit;
+    private final Limit clientLimit;
+    private final Map<String, AtomicLong> usernameBuckets = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> clientBuckets = new ConcurrentHashMap<>();
+    private final AtomicInteger attempts = new AtomicInteger();
+    private final AtomicBoolean cleaning = new AtomicBoolean();
+
+    @Autowired
+    public LoginThrottle() {
+        this(DEFAULT_USERNAME_BURST, DEFAULT_USERNAME_INTERVAL, DEFAULT_CLIENT_BURST, DEFAULT_CLIENT_INTERVAL);
+    }
+
+    /**
+     * @param usernameBurst    The number of attempts a username may make in a row.
+     * @param usernameInterval The time it takes a username to earn back one attempt.
+     * @param clientBurst      The number of attempts a client address may make in a row.
+     * @param clientInterval   The time it takes a client address to earn back one attempt.
+     */
+    public LoginThrottle(int usernameBurst, Duration usernameInterval, int clientBurst, Duration clientInterval) {
+        this.usernameLimit = new Limit(usernameBurst, usernameInterval);
+        this.clientLimit = new Limit(clientBurst, clientInterval);
+    }
+
+    /**
+     * Takes one attempt from the username's bucket and, if there is a client address, the client's bucket.
+     * @param username      The username being logged in to.
+     * @param clientAddress The address the attempt comes from, or null if it has none.
+     * @throws TooManyAttemptsException if either bucket is empty.
+     */
+    public void acquire(String username, String clientAddress) throws TooManyAttemptsException {
+        long now = System.nanoTime();
+        if (attempts.incrementAndGet() % CLEANUP_EVERY == 0) {
+            cleanup(now);
+        }
+        if (clientAddress != null && !tryTake(clientBuckets, clientAddress, clientLimit, now)
+                || !tryTake(usernameBuckets, username, usernameLimit, now)) {
+            throw new TooManyAttemptsException("Too many login attempts. Please try again later.");
+        }
+    }
+
+    private static boolean tryTake(Map<String, AtomicLong> buckets, String key, Limit limit, long now) {
+        AtomicLong bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        while (true) {
+            long arrival = bucket.get();
+            long base = Math.max(arrival, now);
+            if (base - now > limit.tolerance) {
+                return false;
+            }
+            if (bucket.compareAndSet(arrival, base + limit.intervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    private void cleanup(long now) {
+        if (!cleaning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            usernameBuckets.values().removeIf(bucket -> bucket.get() <= now);
+            clientBuckets.values().removeIf(bucket -> bucket.get() <= now);
+        } finally {
+            cleaning.set(false);
+        }
+    }
+
+    private static final class Limit {
+        private final long intervalNanos;
+        private final long tolerance;
+
+        private Limit(int burst, Duration interval) {
+            if (burst <= 0 || interval.isNegative() || interval.isZero()) {
+                throw new IllegalArgumentException("Throttle settings must be positive.");
+            }
+            this.intervalNanos = interval.toNanos();
+            this.tolerance = (burst - 1) * intervalNanos;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.ticketsalesapp.service.user;
+
+import com.ticketsalesapp.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Produces and checks salted PBKDF2 password hashes.
+ * Hashing is deliberately slow, so it runs on a small bounded pool instead of the caller's thread:
+ * a burst of logins queues up (or is rejected) here rather than starving every request thread.
+ * Encoded hashes have the form {@code iterations:salt:hash}, with salt and hash in Base64.
+ */
+@Component
+public class PasswordHasher {
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int DEFAULT_ITERATIONS = 120_000;
+    private static final int SALT_LENGTH = 16;
+    private static final int KEY_LENGTH = 256;
+    private static final int QUEUE_CAPACITY = 256;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final int iterations;
+    private final ThreadPoolExecutor executor;
+    private final SecureRandom random = new SecureRandom();
+
+    @Autowired
+    public PasswordHasher() {
+        this(DEFAULT_ITERATIONS, Math.max(1, Runtime.getRuntime().availableProcessors() / 2), QUEUE_CAPACITY);
+    }
+
+    /**
+     * @param iterations    The PBKDF2 iteration count (the cost factor) used for new hashes.
+     * @param threads       The number of threads dedicated to hashing.
+     * @param queueCapacity The number of hash jobs that may wait for a free thread before new ones are rejected.
+     */
+    public PasswordHasher(int iterations, int threads, int queueCapacity) {
+        if (iterations <= 0 || threads <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("Hasher settings must be positive.");
+        }
+        this.iterations = iterations;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Hashes a password with a fresh random salt.
+     * @param password The plaintext password.
+     * @return The encoded hash, ready to be stored.
+     */
+    public String hash(String password) {
+        byte[] salt = new byte[SALT_LENGTH];
+        random.nextBytes(salt);
+        byte[] hash = await(() -> pbkdf2(password, salt, iterations));
+        Base64.Encoder encoder = Base64.getEncoder();
+        return iterations + ":" + encoder.encodeToString(salt) + ":" + encoder.encodeToString(hash);
+    }
+
+    /**
+     * Checks a password against an encoded hash, using the cost the hash was created with.
+     * @param password    The plaintext password to check.
+     * @param encodedHash The stored hash, as returned by {@link #hash(String)}.
+     * @return true if the password matches; false otherwise, including when the stored hash is malformed.
+     * @throws ServiceUnavailableException if the hashing pool is saturated or the check timed out.
+     */
+    public boolean matches(String password, String encodedHash) {
+        String[] parts = encodedHash == null ? new String[0] : encodedHash.split(":");
+        if (parts.length != 3) {
+            return false;
+        }
+        int hashIterations;
+        byte[] salt;
+        byte[] expected;
+        try {
+            hashIterations = Integer.parseInt(parts[0]);
+            salt = Base64.getDecoder().decode(parts[1]);
+            expected = Base64.getDecoder().decode(parts[2]);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        if (hashIterations <= 0 || salt.length == 0 || expected.length == 0) {
+            return false;
+        }
+        byte[] actual = await(() -> pbkdf2(password, salt, hashIterations));
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    private byte[] await(Callable<byte[]> job) {
+        Future<byte[]> future;
+        try {
+            future = executor.submit(job);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceUnavailableException("Too many login attempts in progress. Please try again later.");
+        }
+        try {
+            return future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ServiceUnavailableException("Password check was interrupted. Please try again.");
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceUnavailableException("Password check timed out. Please try again later.");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed.", e.getCause());
+        }
+    }
+
+    private static byte[] pbkdf2(String password, byte[] salt, int iterations) throws GeneralSecurityException {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, KEY_LENGTH);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
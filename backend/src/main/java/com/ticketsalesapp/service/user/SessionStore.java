@@ -0,0 +1,212 @@
+package com.ticketsalesapp.service.user;
+
+import com.ticketsalesapp.exception.BusinessLogicException;
+import com.ticketsalesapp.model.user.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token-keyed store of logged-in users, so any number of users can be logged in at once.
+ * Sessions expire after a period of inactivity; every successful lookup slides the expiry forward.
+ * <p>
+ * Expiry is driven by a timer wheel: a session is placed in the bucket of the tick it expires on, and a
+ * background thread visits one bucket per tick. Refreshing a session only moves its deadline, so when the
+ * bucket comes round the session is either removed or pushed to the bucket of its new deadline.
+ * <p>
+ * The tokens are also indexed by username, so every session of a user can be closed at once, e.g. when
+ * the account is deleted.
+ */
+@Component
+public class SessionStore implements AutoCloseable {
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(30);
+    private static final Duration DEFAULT_TICK = Duration.ofSeconds(5);
+    private static final int WHEEL_SIZE = 512;
+    private static final int DEFAULT_MAX_SESSIONS = 100_000;
+    private static final int TOKEN_BYTES = 32;
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> tokensByUsername = new ConcurrentHashMap<>();
+    private final Queue<String>[] wheel;
+    private final long ttlMillis;
+    private final long tickMillis;
+    private final int maxSessions;
+    private final SecureRandom random = new SecureRandom();
+    private final ScheduledExecutorService sweeper;
+    private volatile long currentTick;
+
+    @Autowired
+    public SessionStore() {
+        this(DEFAULT_TTL, DEFAULT_TICK, DEFAULT_MAX_SESSIONS);
+    }
+
+    /**
+     * @param ttl         How long a session stays valid without being used.
+     * @param tick        How often the timer wheel advances, i.e. the precision of expiry.
+     * @param maxSessions The maximum number of sessions kept at once.
+     */
+    @SuppressWarnings("unchecked")
+    public SessionStore(Duration ttl, Duration tick, int maxSessions) {
+        if (ttl.isNegative() || ttl.isZero() || tick.isNegative() || tick.isZero() || maxSessions <= 0) {
+            throw new IllegalArgumentException("Session settings must be positive.");
+        }
+        this.ttlMillis = ttl.toMillis();
+        this.tickMillis = tick.toMillis();
+        this.maxSessions = maxSessions;
+        this.wheel = new Queue[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.currentTick = System.currentTimeMillis() / tickMillis;
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens a new session for a user.
+     * @param user The user who logged in.
+     * @return The token identifying the new session.
+     */
+    public String open(User user) {
+        if (sessions.size() >= maxSessions) {
+            throw new BusinessLogicException("Too many active sessions. Please try again later.");
+        }
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        Session session = new Session(user, System.currentTimeMillis() + ttlMillis);
+        sessions.put(token, session);
+        tokensByUsername.computeIfAbsent(user.getUsername(), username -> ConcurrentHashMap.newKeySet()).add(token);
+        schedule(token, session.expiresAt);
+        return token;
+    }
+
+    /**
+     * Looks up the user behind a token and refreshes the session's expiry.
+     * @param token The session token.
+     * @return The logged-in user, or an empty Optional if the token is unknown or expired.
+     */
+    public Optional<User> resolve(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        Session session = sessions.get(token);
+        if (session == null) {
+            return Optional.empty();
+        }
+        long now = System.currentTimeMillis();
+        if (session.expiresAt <= now) {
+            remove(token, session);
+            return Optional.empty();
+        }
+        session.expiresAt = now + ttlMillis;
+        return Optional.of(session.user);
+    }
+
+    /**
+     * Ends a session. Does nothing if the token is unknown.
+     * @param token The session token.
+     */
+    public void close(String token) {
+        Session session = token == null ? null : sessions.get(token);
+        if (session != null) {
+            remove(token, session);
+        }
+    }
+
+    /**
+     * Ends every session of a user, e.g. when their account is deleted.
+     * @param user The user whose sessions to end.
+     * @return The number of sessions ended.
+     */
+    public int closeAll(User user) {
+        Set<String> tokens = tokensByUsername.remove(user.getUsername());
+        if (tokens == null) {
+            return 0;
+        }
+        int closed = 0;
+        for (String token : tokens) {
+            if (sessions.remove(token) != null) {
+                closed++;
+            }
+        }
+        return closed;
+    }
+
+    /**
+     * Returns the number of open sessions, including expired ones the wheel has not reached yet.
+     */
+    public int size() {
+        return sessions.size();
+    }
+
+    @Override
+    public void close() {
+        sweeper.shutdownNow();
+    }
+
+    private void schedule(String token, long expiresAt) {
+        long tick = Math.max(expiresAt / tickMillis, currentTick + 1);
+        wheel[(int) (tick % WHEEL_SIZE)].add(token);
+    }
+
+    /**
+     * Visits the bucket of the current tick, dropping expired sessions and rescheduling refreshed ones.
+     */
+    private void advance() {
+        long tick = ++currentTick;
+        long now = System.currentTimeMillis();
+        Queue<String> bucket = wheel[(int) (tick % WHEEL_SIZE)];
+        int pending = bucket.size();
+        for (int i = 0; i < pending; i++) {
+            String token = bucket.poll();
+            if (token == null) {
+                break;
+            }
+            Session session = sessions.get(token);
+            if (session == null) {
+                continue;
+            }
+            if (session.expiresAt <= now) {
+                remove(token, session);
+            } else {
+                schedule(token, session.expiresAt);
+            }
+        }
+    }
+
+    private void remove(String token, Session session) {
+        if (sessions.remove(token, session)) {
+            tokensByUsername.computeIfPresent(session.user.getUsername(), (username, tokens) -> {
+                tokens.remove(token);
+                return tokens.isEmpty() ? null : tokens;
+            });
+        }
+    }
+
+    private static final class Session {
+        private final User user;
+        private volatile long expiresAt;
+
+        private Session(User user, long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.ticketsalesapp.service.user;
+
+import com.ticketsalesapp.model.user.Admin;
+import com.ticketsalesapp.model.user.Customer;
+import com.ticketsalesapp.model.user.User;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Single username index covering both admins and customers.
+ * Usernames are unique across roles, and the number of users of each role is kept as a running count
+ * so nobody has to copy a whole repository just to find out whether it is empty.
+ */
+@Component
+public class UserDirectory {
+
+    private final CredentialStore credentials;
+    private final AtomicInteger adminCount = new AtomicInteger();
+    private final AtomicInteger customerCount = new AtomicInteger();
+
+    public UserDirectory(PasswordHasher passwordHasher) {
+        this.credentials = new CredentialStore(passwordHasher);
+    }
+
+    /**
+     * Adds a user to the directory. The user's password field must already hold a hash.
+     * @param user The user to add.
+     * @return true if the username was free; false if another user of any role already has it.
+     */
+    public boolean register(User user) {
+        if (!credentials.add(user.getUsername(), user, user.getPassword())) {
+            return false;
+        }
+        counterFor(user).incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Removes a user from the directory, freeing their username.
+     * @param user The user to remove.
+     */
+    public void unregister(User user) {
+        credentials.remove(user.getUsername()).ifPresent(removed -> counterFor(removed).decrementAndGet());
+    }
+
+    public boolean usernameExists(String username) {
+        return credentials.contains(username);
+    }
+
+    public Optional<User> findByUsername(String username) {
+        return credentials.find(username);
+    }
+
+    /**
+     * Checks a username and password pair against users of every role.
+     * @param username The username to check.
+     * @param password The plaintext password to check.
+     * @return The matching admin or customer, or an empty Optional if the credentials are invalid.
+     */
+    public Optional<User> authenticate(String username, String password) {
+        return credentials.verify(username, password);
+    }
+
+    public int countAdmins() {
+        return adminCount.get();
+    }
+
+    public int countCustomers() {
+        return customerCount.get();
+    }
+
+    public boolean hasUsers() {
+        return adminCount.get() > 0 || customerCount.get() > 0;
+    }
+
+    private AtomicInteger counterFor(User user) {
+        if (user instanceof Admin) {
+            return adminCount;
+        }
+        if (user instanceof Customer) {
+            return customerCount;
+        }
+        throw new IllegalArgumentException("Unsupported user type: " + user.getClass().getSimpleName());
+    }
+}
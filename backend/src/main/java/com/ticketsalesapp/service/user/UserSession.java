@@ -1,6 +1,6 @@
 package com.ticketsalesapp.service.user;
 
-import lombok.Setter;
+import com.ticketsalesapp.exception.BusinessLogicException;
 import com.ticketsalesapp.model.user.Admin;
 import com.ticketsalesapp.model.user.Customer;
 import com.ticketsalesapp.model.user.User;
@@ -8,18 +8,55 @@ import org.springframework.stereotype.Component;
 
 import java.util.Optional;
 
-@Setter
+/**
+ * Resolves the user behind a {@link SessionStore} token. Every client — the console, a browser — keeps the
+ * token it got at login and passes it back with each call; nothing here is shared between clients.
+ */
 @Component
 public class UserSession {
 
-    public void setCurrentUser(User currentUser) {
-        this.currentUser = currentUser;
+    private final SessionStore sessionStore;
+
+    public UserSession(SessionStore sessionStore) {
+        this.sessionStore = sessionStore;
+    }
+
+    /**
+     * @param user The user who just logged in.
+     * @return The token the client presents from now on.
+     */
+    public String open(User user) {
+        return sessionStore.open(user);
+    }
+
+    /**
+     * @param token The client's session token, may be null.
+     * @return The logged-in user, or an empty Optional if the token is unknown or expired.
+     */
+    public Optional<User> resolve(String token) {
+        return sessionStore.resolve(token);
+    }
+
+    public Customer requireCustomer(String token) throws BusinessLogicException {
+        return resolve(token)
+                .filter(this::isCustomer)
+                .map(user -> (Customer) user)
+                .orElseThrow(() -> new BusinessLogicException("No customer is logged in."));
     }
 
-    private User currentUser;
+    public Admin requireAdmin(String token) throws BusinessLogicException {
+        return resolve(token)
+                .filter(this::isAdmin)
+                .map(user -> (Admin) user)
+                .orElseThrow(() -> new BusinessLogicException("No admin is logged in."));
+    }
 
-    public Optional<User> getCurrentUser() {
-        return Optional.ofNullable(currentUser);
+    /**
+     * Ends every session of a user, e.g. when their account is deleted, so their tokens stop resolving.
+     * @param user The user whose sessions to end.
+     */
+    public void closeAll(User user) {
+        sessionStore.closeAll(user);
     }
 
     public boolean isAdmin(User currentUser) {
@@ -30,7 +67,15 @@ public class UserSession {
         return currentUser instanceof Customer;
     }
 
-    public void logout() {
-        currentUser = null;
+    /**
+     * Ends the session behind a token.
+     * @param token The client's session token.
+     * @throws BusinessLogicException If the token does not belong to a live session.
+     */
+    public void logout(String token) throws BusinessLogicException {
+        if (resolve(token).isEmpty()) {
+            throw new BusinessLogicException("No user is currently logged in");
+        }
+        sessionStore.close(token);
     }
 }
@@ -0,0 +1,84 @@
+package com.ticketsalesapp.service.waitingroom;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Signs and checks admission tokens with HMAC-SHA256.
+ * <p>
+ * A token is {@code payload.signature}, both Base64url: the payload names the event, the customer, the
+ * customer's queue number and when the admission expires. A forged or altered token is rejected by the
+ * signature check alone, before the waiting room is looked at.
+ */
+class AdmissionTokenSigner {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int KEY_BYTES = 32;
+
+    private final SecretKeySpec key;
+
+    /**
+     * The claims carried by a valid token.
+     */
+    record Admission(int eventID, int customerID, long number, long expiresAt) {
+    }
+
+    AdmissionTokenSigner() {
+        byte[] secret = new byte[KEY_BYTES];
+        new SecureRandom().nextBytes(secret);
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+    }
+
+    String sign(Admission admission) {
+        String payload = admission.eventID() + ":" + admission.customerID() + ":" + admission.number() + ":"
+                + admission.expiresAt();
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.US_ASCII);
+        return encoder.encodeToString(payloadBytes) + "." + encoder.encodeToString(mac(payloadBytes));
+    }
+
+    /**
+     * @param token The token to check.
+     * @return The token's claims, or an empty Optional if it is malformed or its signature does not match.
+     */
+    Optional<Admission> verify(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int dot = token.indexOf('.');
+        if (dot < 0) {
+            return Optional.empty();
+        }
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            byte[] payload = decoder.decode(token.substring(0, dot));
+            byte[] signature = decoder.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(signature, mac(payload))) {
+                return Optional.empty();
+            }
+            String[] fields = new String(payload, StandardCharsets.US_ASCII).split(":");
+            if (fields.length != 4) {
+                return Optional.empty();
+            }
+            return Optional.of(new Admission(Integer.parseInt(fields[0]), Integer.parseInt(fields[1]),
+                    Long.parseLong(fields[2]), Long.parseLong(fields[3])));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] mac(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available.", e);
+        }
+    }
+}
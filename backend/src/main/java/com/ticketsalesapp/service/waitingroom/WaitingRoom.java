@@ -0,0 +1,303 @@
+package com.ticketsalesapp.service.waitingroom;
+
+import com.ticketsalesapp.exception.BusinessLogicException;
+import com.ticketsalesapp.exception.EntityNotFoundException;
+import com.ticketsalesapp.exception.ValidationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queues shoppers in front of the reservation path of events that go on sale, and lets them through at a
+ * steady rate instead of all at once.
+ * <p>
+ * Every shopper who joins an event's room draws the next queue number, so admission is strictly first come,
+ * first served. A background thread advances the admitted boundary every tick by at most the room's
+ * admission rate, and never past the number of shoppers the reservation path can hold at once: a slot is
+ * given back when a shopper completes (checkout or leaving) or their admission expires. The faster the
+ * reservation path actually finishes shoppers, the faster the queue moves.
+ * <p>
+ * Admitted shoppers get an HMAC-signed token naming the event, the customer and their queue number, which
+ * the reservation path checks with {@link #checkAdmission}. Polling is a map lookup and a subtraction, so
+ * shoppers can poll often without loading the server. Events without an open room are not gated.
+ */
+@Component
+public class WaitingRoom implements AutoCloseable {
+    private static final Duration DEFAULT_TICK = Duration.ofMillis(100);
+    private static final Duration DEFAULT_ADMISSION_TTL = Duration.ofMinutes(10);
+    private static final double RATE_SMOOTHING = 0.1;
+
+    private final Map<Integer, Room> rooms = new ConcurrentHashMap<>();
+    private final AdmissionTokenSigner signer = new AdmissionTokenSigner();
+    private final long tickMillis;
+    private final long admissionTtlMillis;
+    private final ScheduledExecutorService ticker;
+
+    /**
+     * One event's queue. Numbers are handed out under the room's lock; everything else is lock-free, and
+     * the admission state is only written by the ticker thread.
+     */
+    private static final class Room {
+        private final int eventID;
+        private final int maxActive;
+        private final double admissionsPerTick;
+        private final Map<Integer, Entry> byCustomer = new ConcurrentHashMap<>();
+        private final Map<Long, Entry> waiting = new ConcurrentHashMap<>();
+        private final Map<Long, Entry> active = new ConcurrentHashMap<>();
+        private long lastNumber;
+        private volatile long admittedUpTo;
+        private volatile double admittedPerSecond;
+        private double credit;
+
+        private Room(int eventID, int maxActive, double admissionsPerTick) {
+            this.eventID = eventID;
+            this.maxActive = maxActive;
+            this.admissionsPerTick = admissionsPerTick;
+        }
+    }
+
+    private static final class Entry {
+        private final int customerID;
+        private final long number;
+        private volatile String token;
+        private volatile long expiresAt;
+
+        private Entry(int customerID, long number) {
+            this.customerID = customerID;
+            this.number = number;
+        }
+    }
+
+    @Autowired
+    public WaitingRoom() {
+        this(DEFAULT_TICK, DEFAULT_ADMISSION_TTL);
+    }
+
+    /**
+     * @param tick         How often shoppers are admitted.
+     * @param admissionTtl How long an admitted shopper may take to complete before their slot is given away.
+     */
+    public WaitingRoom(Duration tick, Duration admissionTtl) {
+        if (tick.isNegative() || tick.isZero() || admissionTtl.isNegative() || admissionTtl.isZero()) {
+            throw new IllegalArgumentException("Waiting room settings must be positive.");
+        }
+        this.tickMillis = tick.toMillis();
+        this.admissionTtlMillis = admissionTtl.toMillis();
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "waiting-room");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens a waiting room for an event, e.g. just before it goes on sale.
+     * @param eventID             The event's ID.
+     * @param maxActive           The number of admitted shoppers the reservation path can serve at once.
+     * @param admissionsPerSecond The maximum number of shoppers admitted per second.
+     * @throws BusinessLogicException If the event already has an open room.
+     */
+    public void open(int eventID, int maxActive, double admissionsPerSecond) {
+        if (maxActive <= 0 || !(admissionsPerSecond > 0)) {
+            throw new ValidationException("Capacity and admission rate must be positive.");
+        }
+        Room room = new Room(eventID, maxActive, admissionsPerSecond * tickMillis / 1000);
+        if (rooms.putIfAbsent(eventID, room) != null) {
+            throw new BusinessLogicException("A waiting room is already open for this event.");
+        }
+    }
+
+    /**
+     * Closes an event's room. Reservations for the event are no longer gated.
+     * @param eventID The event's ID.
+     */
+    public void close(int eventID) {
+        rooms.remove(eventID);
+    }
+
+    public boolean isOpen(int eventID) {
+        return rooms.containsKey(eventID);
+    }
+
+    /**
+     * Puts a customer at the back of an event's queue. Joining again while waiting or admitted keeps
+     * the customer's place.
+     * @param eventID    The event's ID.
+     * @param customerID The customer's ID.
+     * @return The customer's status.
+     * @throws EntityNotFoundException If no room is open for the event.
+     */
+    public WaitingRoomStatus join(int eventID, int customerID) {
+        Room room = rooms.get(eventID);
+        if (room == null) {
+            throw new EntityNotFoundException("No waiting room is open for this event.");
+        }
+        Entry entry = room.byCustomer.get(customerID);
+        if (entry == null) {
+            synchronized (room) {
+                entry = room.byCustomer.get(customerID);
+                if (entry == null) {
+                    entry = new Entry(customerID, ++room.lastNumber);
+                    // byCustomer first: advance drops entries it cannot find there
+                    room.byCustomer.put(customerID, entry);
+                    room.waiting.put(entry.number, entry);
+                }
+            }
+        }
+        return status(room, entry);
+    }
+
+    /**
+     * Returns a customer's place in an event's queue, or their admission token once admitted.
+     * @param eventID    The event's ID.
+     * @param customerID The customer's ID.
+     * @return The customer's status.
+     */
+    public WaitingRoomStatus status(int eventID, int customerID) {
+        Room room = rooms.get(eventID);
+        Entry entry = room == null ? null : room.byCustomer.get(customerID);
+        if (entry == null) {
+            return new WaitingRoomStatus(eventID, WaitingRoomStatus.State.NOT_QUEUED, 0, 0, null);
+        }
+        return status(room, entry);
+    }
+
+    /**
+     * Takes a customer out of an event's room, giving up their place or admission slot.
+     * @param eventID    The event's ID.
+     * @param customerID The customer's ID.
+     */
+    public void leave(int eventID, int customerID) {
+        Room room = rooms.get(eventID);
+        Entry entry = room == null ? null : room.byCustomer.remove(customerID);
+        if (entry != null) {
+            room.waiting.remove(entry.number, entry);
+            room.active.remove(entry.number, entry);
+        }
+    }
+
+    /**
+     * Checks that a customer may reserve tickets for an event.
+     * @param token      The admission token the customer presents, if any.
+     * @param eventID    The event's ID.
+     * @param customerID The customer's ID.
+     * @throws BusinessLogicException If the event has an open room and the token is not a live admission
+     *                                to it for this customer.
+     */
+    public void checkAdmission(String token, int eventID, int customerID) {
+        Room room = rooms.get(eventID);
+        if (room != null && admission(room, token, customerID).isEmpty()) {
+            throw new BusinessLogicException("Please wait for your turn in the waiting room.");
+        }
+    }
+
+    /**
+     * Ends an admission once the customer has finished reserving, freeing the slot for the next in line.
+     * @param token The customer's admission token.
+     */
+    public void complete(String token) {
+        Optional<AdmissionTokenSigner.Admission> claims = signer.verify(token);
+        if (claims.isEmpty()) {
+            return;
+        }
+        Room room = rooms.get(claims.get().eventID());
+        if (room != null) {
+            admission(room, token, claims.get().customerID()).ifPresent(entry -> {
+                room.active.remove(entry.number, entry);
+                room.byCustomer.remove(entry.customerID, entry);
+            });
+        }
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+    private Optional<Entry> admission(Room room, String token, int customerID) {
+        Optional<AdmissionTokenSigner.Admission> claims = signer.verify(token);
+        if (claims.isEmpty()) {
+            return Optional.empty();
+        }
+        AdmissionTokenSigner.Admission admission = claims.get();
+        if (admission.eventID() != room.eventID || admission.customerID() != customerID
+                || admission.expiresAt() <= System.currentTimeMillis()) {
+            return Optional.empty();
+        }
+        Entry entry = room.active.get(admission.number());
+        return entry != null && entry.customerID == customerID ? Optional.of(entry) : Optional.empty();
+    }
+
+    private static WaitingRoomStatus status(Room room, Entry entry) {
+        long ahead = entry.number - room.admittedUpTo;
+        if (ahead <= 0) {
+            String token = entry.token;
+            if (token != null && entry.expiresAt > System.currentTimeMillis()) {
+                return new WaitingRoomStatus(room.eventID, WaitingRoomStatus.State.ADMITTED, 0, 0, token);
+            }
+            return new WaitingRoomStatus(room.eventID, WaitingRoomStatus.State.NOT_QUEUED, 0, 0, null);
+        }
+        double rate = room.admittedPerSecond;
+        long wait = rate > 0 ? (long) Math.ceil(ahead / rate) : -1;
+        return new WaitingRoomStatus(room.eventID, WaitingRoomStatus.State.WAITING, ahead, wait, null);
+    }
+
+    /**
+     * One tick for every room: drops expired admissions, then admits the next shoppers in line as far as
+     * the room's rate and free slots allow.
+     */
+    private void advance() {
+        long now = System.currentTimeMillis();
+        for (Room room : rooms.values()) {
+            for (Iterator<Entry> iterator = room.active.values().iterator(); iterator.hasNext(); ) {
+                Entry entry = iterator.next();
+                if (entry.expiresAt <= now) {
+                    iterator.remove();
+                    room.byCustomer.remove(entry.customerID, entry);
+                }
+            }
+            long last;
+            synchronized (room) {
+                last = room.lastNumber;
+            }
+            long boundary = room.admittedUpTo;
+            if (boundary >= last) {
+                continue;
+            }
+            room.credit = Math.min(room.credit + room.admissionsPerTick, Math.max(1, room.admissionsPerTick));
+            long admit = Math.min((long) room.credit, room.maxActive - room.active.size());
+            int admitted = 0;
+            while (admitted < admit && boundary < last) {
+                Entry entry = room.waiting.remove(++boundary);
+                if (entry == null) {
+                    continue;
+                }
+                entry.expiresAt = now + admissionTtlMillis;
+                entry.token = signer.sign(new AdmissionTokenSigner.Admission(room.eventID, entry.customerID,
+                        entry.number, entry.expiresAt));
+                room.active.put(entry.number, entry);
+                if (room.byCustomer.get(entry.customerID) != entry) {
+                    // the customer left between leaving the waiting map and entering the active one
+                    room.active.remove(entry.number, entry);
+                    continue;
+                }
+                admitted++;
+            }
+            room.credit -= admitted;
+            room.admittedUpTo = boundary;
+            double perSecond = admitted * 1000.0 / tickMillis;
+            room.admittedPerSecond = room.admittedPerSecond == 0
+                    ? perSecond
+                    : (1 - RATE_SMOOTHING) * room.admittedPerSecond + RATE_SMOOTHING * perSecond;
+        }
+    }
+}
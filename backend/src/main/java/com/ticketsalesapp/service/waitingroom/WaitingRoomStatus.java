@@ -0,0 +1,22 @@
+package com.ticketsalesapp.service.waitingroom;
+
+/**
+ * What a shopper in a waiting room sees when polling.
+ * @param eventID                The event being queued for.
+ * @param state                  Whether the shopper is still waiting, admitted, or no longer in the room.
+ * @param position               The number of places ahead while waiting (shoppers who left still count
+ *                               until the queue passes them); 0 otherwise.
+ * @param estimatedWaitSeconds   The expected wait at the current admission rate, or -1 if it cannot be estimated yet.
+ * @param admissionToken         The signed token to present to the reservation path once admitted, otherwise null.
+ */
+public record WaitingRoomStatus(int eventID, State state, long position, long estimatedWaitSeconds,
+                                String admissionToken) {
+    public enum State {
+        WAITING,
+        ADMITTED,
+        /**
+         * The shopper's admission expired or was used up, or they never joined.
+         */
+        NOT_QUEUED
+    }
+}
@@ -1,8 +1,11 @@
 package com.ticketsalesapp.view;
 
 import com.ticketsalesapp.controller.user.AdminController;
+import com.ticketsalesapp.controller.user.AuthenticationController;
 import com.ticketsalesapp.controller.user.CustomerController;
 import com.ticketsalesapp.exception.BusinessLogicException;
+import com.ticketsalesapp.exception.ServiceUnavailableException;
+import com.ticketsalesapp.exception.TooManyAttemptsException;
 import com.ticketsalesapp.exception.ValidationException;
 import com.ticketsalesapp.model.user.User;
 import com.ticketsalesapp.service.user.UserSession;
@@ -16,12 +19,15 @@ public class AccountAction {
 
     private final AdminController adminController;
     private final CustomerController customerController;
+    private final AuthenticationController authenticationController;
     private final UserSession userSession;
 
     @Autowired
-    public AccountAction(AdminController adminController, CustomerController customerController, UserSession userSession) {
+    public AccountAction(AdminController adminController, CustomerController customerController,
+                         AuthenticationController authenticationController, UserSession userSession) {
         this.adminController = adminController;
         this.customerController = customerController;
+        this.authenticationController = authenticationController;
         this.userSession = userSession;
     }
 
@@ -43,10 +49,7 @@ public class AccountAction {
         while (true) {
             System.out.print("Enter username: ");
             username = scanner.nextLine();
-            if (role.equalsIgnoreCase("Admin") && adminController.usernameExists(username)) {
-                System.out.println("❌ Error: Username already taken. Try another one.");
-                continue;
-            } else if (role.equalsIgnoreCase("Customer") && customerController.usernameExists(username)) {
+            if (customerController.usernameExists(username)) {
                 System.out.println("❌ Error: Username already taken. Try another one.");
                 continue;
             }
@@ -80,9 +83,13 @@ public class AccountAction {
         }
     }
 
-    public User handleLogin(Scanner scanner) {
+    /**
+     * Asks for credentials until the user logs in or gives up.
+     * @return The session token of the logged-in user, or null if the user gave up.
+     */
+    public String handleLogin(Scanner scanner) {
         System.out.println("=== Login ===");
-        User loggedInUser = null;
+        String sessionToken = null;
 
         while (true) {
             try {
@@ -93,20 +100,22 @@ public class AccountAction {
                 String password = scanner.nextLine();
 
                 try {
-                    loggedInUser = adminController.login(username, password);
-                    System.out.println("✅ Successfully logged in as Admin!");
+                    sessionToken = authenticationController.login(username, password);
+                    String role = userSession.resolve(sessionToken).map(user -> user.getClass().getSimpleName())
+                            .orElse("User");
+                    System.out.println("✅ Successfully logged in as " + role + "!");
                     break;
+                } catch (ServiceUnavailableException | TooManyAttemptsException e) {
+                    System.out.println("⏳ " + e.getMessage());
+                    System.out.println("Would you like to try again? (y/n)");
+                    if (!scanner.nextLine().equalsIgnoreCase("y")) {
+                        break;
+                    }
                 } catch (BusinessLogicException e) {
-                    try {
-                        loggedInUser = customerController.login(username, password);
-                        System.out.println("✅ Successfully logged in as Customer!");
+                    System.out.println("❌ Error: " + e.getMessage());
+                    System.out.println("Would you like to try again? (y/n)");
+                    if (!scanner.nextLine().equalsIgnoreCase("y")) {
                         break;
-                    } catch (BusinessLogicException ex) {
-                        System.out.println("❌ Error: Invalid credentials");
-                        System.out.println("Would you like to try again? (y/n)");
-                        if (!scanner.nextLine().equalsIgnoreCase("y")) {
-                            break;
-                        }
                     }
                 }
             } catch (Exception e) {
@@ -114,17 +123,17 @@ public class AccountAction {
                 break;
             }
         }
-        return loggedInUser;
+        return sessionToken;
     }
 
-    public boolean handleLogout(User user) throws BusinessLogicException {
+    public boolean handleLogout(String sessionToken, User user) throws BusinessLogicException {
         if (userSession.isAdmin(user)) {
-            adminController.logout();
+            adminController.logout(sessionToken);
         } else {
-            customerController.logout();
+            customerController.logout(sessionToken);
         }
         System.out.println("Logged out successfully.");
-        return !adminController.getAllAdmins().isEmpty() || !customerController.getAllCustomers().isEmpty();
+        return authenticationController.hasUsers();
     }
 
     public void handleDeleteAccount(User user, Scanner scanner) throws BusinessLogicException {
@@ -17,7 +17,7 @@ public class CustomerMenu {
         this.accountAction = accountAction;
     }
 
-    public boolean display(Scanner scanner, Customer customer) {
+    public boolean display(Scanner scanner, String sessionToken, Customer customer) {
         while (true) {
             try {
                 System.out.println("==== Customer Menu ====");
@@ -35,7 +35,7 @@ public class CustomerMenu {
 
                 switch (choice) {
                     case "1":
-                        return accountAction.handleLogout(customer);
+                        return accountAction.handleLogout(sessionToken, customer);
                     case "2":
                         System.out.println("Search Events by Artists/Athletes - Not implemented yet.");
                         break;
@@ -1,7 +1,6 @@
 package com.ticketsalesapp.view;
 
 import com.ticketsalesapp.exception.ValidationException;
-import com.ticketsalesapp.model.user.User;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -17,7 +16,10 @@ public class LoginMenu {
         this.accountAction = accountAction;
     }
 
-    public User display(Scanner scanner) {
+    /**
+     * @return The session token of the user who logged in, or null if the user chose to exit.
+     */
+    public String display(Scanner scanner) {
         while (true) {
             System.out.println("==== Main Menu ====");
             System.out.println("1. Create Account");
@@ -34,9 +36,9 @@ public class LoginMenu {
                         accountAction.handleCreateAccount(scanner);
                         break;
                     case "2":
-                        User user = accountAction.handleLogin(scanner);
-                        if (user != null) {
-                            return user;
+                        String sessionToken = accountAction.handleLogin(scanner);
+                        if (sessionToken != null) {
+                            return sessionToken;
                         }
                         System.out.println("Invalid credentials. Please try again.");
                         break;
@@ -4,6 +4,7 @@ import com.ticketsalesapp.controller.ArtistController;
 import com.ticketsalesapp.exception.EntityNotFoundException;
 import com.ticketsalesapp.exception.ValidationException;
 import com.ticketsalesapp.model.event.Artist;
+import com.ticketsalesapp.service.importer.ImportReport;
 import com.ticketsalesapp.service.ArtistService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -36,6 +37,7 @@ public class AdminArtistMenu {
                 System.out.println("2. View Artists");
                 System.out.println("3. Update Artist");
                 System.out.println("4. Delete Artist");
+                System.out.println("5. Import Artists from CSV");
                 System.out.println("0. Back to Admin Menu");
                 System.out.println("==========================");
 
@@ -55,11 +57,14 @@ public class AdminArtistMenu {
                     case "4":
                         handleDeleteArtist(scanner);
                         break;
+                    case "5":
+                        handleImportArtists(scanner);
+                        break;
                     case "0":
                         inArtistMenu = false;
                         break;
                     default:
-                        throw new ValidationException("Invalid option. Please select a number between 0 and 4.");
+                        throw new ValidationException("Invalid option. Please select a number between 0 and 5.");
                 }
                 System.out.println();
             } catch (ValidationException e) {
@@ -145,4 +150,26 @@ public class AdminArtistMenu {
             System.out.println("Invalid artist ID. Please enter a valid number.");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Handles importing artists in bulk from a CSV file.
+     * @param scanner the scanner to read user input
+     */
+    public void handleImportArtists(Scanner scanner) {
+        try {
+            System.out.println("=== Import Artists ===");
+            System.out.print("Enter path to CSV file (name,genre): ");
+            String csvPath = scanner.nextLine().trim();
+            if (csvPath.isEmpty()) {
+                throw new ValidationException("File path cannot be empty.");
+            }
+            ImportReport report = artistController.importArtists(csvPath);
+            System.out.println("Imported " + report.getImported() + " artists, rejected " + report.getErrors().size() + " rows.");
+            report.getErrors().stream()
+                    .limit(20)
+                    .forEach(error -> System.out.println("Line " + error.line() + ": " + error.message()));
+        } catch (ValidationException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.ticketsalesapp.controller.AthleteController;
 import com.ticketsalesapp.exception.EntityNotFoundException;
 import com.ticketsalesapp.exception.ValidationException;
 import com.ticketsalesapp.model.event.Athlete;
+import com.ticketsalesapp.service.importer.ImportReport;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -34,6 +35,7 @@ public class AdminAthleteMenu {
                 System.out.println("2. View Athletes");
                 System.out.println("3. Update Athlete");
                 System.out.println("4. Delete Athlete");
+                System.out.println("5. Import Athletes from CSV");
                 System.out.println("0. Back to Admin Menu");
                 System.out.println("==========================");
 
@@ -53,11 +55,14 @@ public class AdminAthleteMenu {
                     case "4":
                         handleDeleteAthlete(scanner);
                         break;
+                    case "5":
+                        handleImportAthletes(scanner);
+                        break;
                     case "0":
                         inAthleteMenu = false;
                         break;
                     default:
-                        throw new ValidationException("Invalid option. Please select a number between 0 and 4.");
+                        throw new ValidationException("Invalid option. Please select a number between 0 and 5.");
                 }
                 System.out.println();
             } catch (ValidationException e) {
@@ -130,4 +135,26 @@ public class AdminAthleteMenu {
         int athleteID = Integer.parseInt(scanner.nextLine());
         athleteController.deleteAthlete(athleteID);
     }
-}
\ No newline at end of file
+
+    /**
+     * Handles importing athletes in bulk from a CSV file.
+     * @param scanner the scanner to read user input
+     */
+    public void handleImportAthletes(Scanner scanner) {
+        try {
+            System.out.println("=== Import Athletes ===");
+            System.out.print("Enter path to CSV file (name,sport): ");
+            String csvPath = scanner.nextLine().trim();
+            if (csvPath.isEmpty()) {
+                throw new ValidationException("File path cannot be empty.");
+            }
+            ImportReport report = athleteController.importAthletes(csvPath);
+            System.out.println("Imported " + report.getImported() + " athletes, rejected " + report.getErrors().size() + " rows.");
+            report.getErrors().stream()
+                    .limit(20)
+                    .forEach(error -> System.out.println("Line " + error.line() + ": " + error.message()));
+        } catch (ValidationException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+}
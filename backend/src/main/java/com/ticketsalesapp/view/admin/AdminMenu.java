@@ -25,7 +25,7 @@ public class AdminMenu {
         this.adminAthleteMenu = adminAthleteMenu;
     }
 
-    public boolean display(Scanner scanner, Admin admin) {
+    public boolean display(Scanner scanner, String sessionToken, Admin admin) {
         try {
             System.out.println("==== Admin Menu ====");
             System.out.println("1. Logout");
@@ -43,7 +43,7 @@ public class AdminMenu {
 
             switch (choice) {
                 case "1":
-                    return accountAction.handleLogout(admin);
+                    return accountAction.handleLogout(sessionToken, admin);
                 case "2":
                     accountAction.handleDeleteAccount(admin, scanner);
                     break;
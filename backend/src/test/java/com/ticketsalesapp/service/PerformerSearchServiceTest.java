@@ -0,0 +1,36 @@
+package com.ticketsalesapp.service;
+
+import com.ticketsalesapp.repository.factory.InMemoryRepositoryFactory;
+import com.ticketsalesapp.repository.id.IdGenerator;
+import com.ticketsalesapp.repository.id.InMemoryHighWaterMarkStore;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PerformerSearchServiceTest {
+
+    private final PerformerSearchService search;
+
+    PerformerSearchServiceTest() {
+        InMemoryRepositoryFactory repositories = new InMemoryRepositoryFactory();
+        IdGenerator ids = new IdGenerator(new InMemoryHighWaterMarkStore());
+        ArtistService artists = new ArtistService(repositories, ids);
+        AthleteService athletes = new AthleteService(repositories, ids);
+        artists.createArtist("Coldplay", "Rock");
+        athletes.createAthlete("Simona Halep", "Tennis");
+        search = new PerformerSearchService(artists, athletes);
+    }
+
+    @Test
+    void mergesMatchesFromBothCatalogs() {
+        assertEquals("Coldplay", search.searchPerformers("Coldpaly", 10).get(0).entity().getName());
+        assertEquals("Simona Halep", search.searchPerformers("Simona Halpe", 10).get(0).entity().getName());
+    }
+
+    @Test
+    void returnsNothingForANonPositiveLimit() {
+        assertTrue(search.searchPerformers("Coldplay", 0).isEmpty());
+        assertTrue(search.searchPerformers("Coldplay", -1).isEmpty());
+    }
+}
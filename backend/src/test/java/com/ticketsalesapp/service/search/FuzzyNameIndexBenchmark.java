@@ -0,0 +1,68 @@
+package com.ticketsalesapp.service.search;
+
+import com.ticketsalesapp.model.event.Artist;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Query latency of {@link FuzzyNameIndex} against catalog size, next to a full scan computing the edit
+ * distance to every name. The BK-tree's cost should grow far slower than the catalog.
+ * <p>
+ * Excluded from the normal test run; run it with
+ * {@code mvn test -Dexcluded.test.groups= -Dgroups=benchmark -Dtest=FuzzyNameIndexBenchmark}.
+ */
+@Tag("benchmark")
+class FuzzyNameIndexBenchmark {
+    private static final int[] CATALOG_SIZES = {1_000, 10_000, 100_000};
+    private static final int QUERIES = 200;
+    private static final int MAX_DISTANCE = 1;
+    private static final int LIMIT = 10;
+
+    private final Random random = new Random(42);
+    private int matchesSeen;
+
+    @Test
+    void queryLatencyAgainstCatalogSize() {
+        for (int size : CATALOG_SIZES) {
+            List<Artist> artists = FuzzyNameIndexTest.catalog(random, size);
+            FuzzyNameIndex<Artist> index = FuzzyNameIndexTest.indexOf(artists);
+            List<String> queries = new ArrayList<>();
+            for (int i = 0; i < QUERIES; i++) {
+                queries.add(FuzzyNameIndexTest.typo(random, artists.get(random.nextInt(size)).getName()));
+            }
+            // warm up both paths before timing them
+            treeSearch(index, queries);
+            scan(artists, queries);
+
+            long treeNanos = treeSearch(index, queries);
+            long scanNanos = scan(artists, queries);
+            System.out.printf("%,7d names: BK-tree %8.1f us/query, full scan %8.1f us/query%n",
+                    size, treeNanos / 1e3 / QUERIES, scanNanos / 1e3 / QUERIES);
+        }
+    }
+
+    private long treeSearch(FuzzyNameIndex<Artist> index, List<String> queries) {
+        long start = System.nanoTime();
+        for (String query : queries) {
+            matchesSeen += index.search(query, MAX_DISTANCE, LIMIT).size();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private long scan(List<Artist> artists, List<String> queries) {
+        long start = System.nanoTime();
+        for (String query : queries) {
+            for (Artist artist : artists) {
+                if (FuzzyNameIndexTest.distance(query, artist.getName()) <= MAX_DISTANCE) {
+                    // counted so the JIT cannot drop the distance computations
+                    matchesSeen++;
+                }
+            }
+        }
+        return System.nanoTime() - start;
+    }
+}
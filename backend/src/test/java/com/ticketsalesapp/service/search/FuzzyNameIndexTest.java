@@ -0,0 +1,86 @@
+package com.ticketsalesapp.service.search;
+
+import com.ticketsalesapp.model.event.Artist;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FuzzyNameIndexTest {
+    private static final int QUERIES = 100;
+
+    private final Random random = new Random(42);
+
+    @Test
+    void findsExactlyTheNamesWithinTheTolerance() {
+        List<Artist> artists = catalog(random, 5_000);
+        FuzzyNameIndex<Artist> index = indexOf(artists);
+        for (int i = 0; i < QUERIES; i++) {
+            String query = typo(random, artists.get(random.nextInt(artists.size())).getName());
+            Set<Integer> expected = new HashSet<>();
+            for (Artist artist : artists) {
+                if (distance(query, artist.getName()) <= 2) {
+                    expected.add(artist.getId());
+                }
+            }
+            Set<Integer> found = new HashSet<>();
+            index.search(query, 2, Integer.MAX_VALUE).forEach(match -> found.add(match.entity().getId()));
+            assertEquals(expected, found, "matches for " + query);
+        }
+    }
+
+    @Test
+    void returnsNothingForANonPositiveLimit() {
+        FuzzyNameIndex<Artist> index = indexOf(catalog(random, 10));
+        assertTrue(index.search("anything", 2, 0).isEmpty());
+        assertTrue(index.search("anything", 2, -1).isEmpty());
+    }
+
+    static List<Artist> catalog(Random random, int size) {
+        List<Artist> artists = new ArrayList<>(size);
+        for (int id = 1; id <= size; id++) {
+            StringBuilder name = new StringBuilder();
+            int length = 6 + random.nextInt(7);
+            for (int i = 0; i < length; i++) {
+                name.append((char) ('a' + random.nextInt(26)));
+            }
+            artists.add(new Artist(id, name.toString(), "Rock"));
+        }
+        return artists;
+    }
+
+    static FuzzyNameIndex<Artist> indexOf(List<Artist> artists) {
+        FuzzyNameIndex<Artist> index = new FuzzyNameIndex<>();
+        artists.forEach(index::add);
+        return index;
+    }
+
+    static String typo(Random random, String name) {
+        char[] letters = name.toCharArray();
+        letters[random.nextInt(letters.length)] = (char) ('a' + random.nextInt(26));
+        return new String(letters);
+    }
+
+    static int distance(String a, String b) {
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            d[i][0] = i;
+        }
+        for (int j = 0; j <= b.length(); j++) {
+            d[0][j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = d[i - 1][j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                d[i][j] = Math.min(substitution, Math.min(d[i - 1][j], d[i][j - 1]) + 1);
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+}
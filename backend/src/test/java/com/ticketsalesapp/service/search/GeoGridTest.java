@@ -0,0 +1,49 @@
+package com.ticketsalesapp.service.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeoGridTest {
+
+    @Test
+    void findsVenueAcrossTheAntimeridian() {
+        // 25 km cells do not divide 360 degrees evenly, so the last column is narrower than the others
+        GeoGrid grid = new GeoGrid(25);
+        grid.put(1, 36.0, 179.81);
+
+        List<GeoGrid.Nearby> found = grid.within(36.0, -179.61, 53);
+
+        assertEquals(1, found.size());
+        assertEquals(1, found.get(0).id());
+        assertEquals(52.18, found.get(0).distanceKm(), 0.01);
+    }
+
+    @Test
+    void findsVenueAcrossTheGreenwichMeridian() {
+        GeoGrid grid = new GeoGrid(25);
+        grid.put(1, 51.5, 0.1);
+
+        assertEquals(1, grid.within(51.5, -0.1, 20).size());
+    }
+
+    @Test
+    void leavesOutVenuesBeyondTheRadius() {
+        GeoGrid grid = new GeoGrid(25);
+        grid.put(1, 36.0, 179.81);
+
+        assertTrue(grid.within(36.0, -179.61, 52).isEmpty());
+    }
+
+    @Test
+    void searchesEveryColumnNearThePole() {
+        GeoGrid grid = new GeoGrid(25);
+        grid.put(1, 89.9, -170);
+        grid.put(2, 89.9, 10);
+
+        assertEquals(2, grid.within(89.9, 100, 30).size());
+    }
+}
@@ -0,0 +1,172 @@
+package com.ticketsalesapp.service.ticket;
+
+import com.ticketsalesapp.exception.ValidationException;
+import com.ticketsalesapp.model.ticket.TicketState;
+import com.ticketsalesapp.model.ticket.TicketType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventTicketStoreTest {
+    private static final int SEATS = 100;
+    private static final int CUSTOMERS = 10_000;
+
+    @Test
+    void emptyBlockDoesNotShadowTheNextOne() {
+        EventTicketStore store = new EventTicketStore(1);
+
+        assertEquals(0, store.append(100, new int[0], new TicketType[0], new double[0]));
+        store.append(101, new int[5], types(5), new double[5]);
+
+        assertEquals(101, store.find(101).get().getTicketID());
+        assertEquals(105, store.find(105).get().getTicketID());
+    }
+
+    @Test
+    void blocksCanArriveOutOfOrderAndTwice() {
+        EventTicketStore store = new EventTicketStore(1);
+
+        store.append(201, new int[10], types(10), new double[10]);
+        store.append(101, new int[10], types(10), new double[10]);
+        assertEquals(0, store.append(201, new int[10], types(10), new double[10]));
+        store.append(111, new int[90], types(90), new double[90]);
+
+        assertEquals(110, store.size());
+        assertEquals(201, store.find(201).get().getTicketID());
+        assertEquals(110, store.find(110).get().getTicketID());
+        assertEquals(200, store.find(200).get().getTicketID());
+        assertTrue(store.find(100).isEmpty());
+        assertTrue(store.find(211).isEmpty());
+        assertThrows(ValidationException.class, () -> store.append(205, new int[2], types(2), new double[2]));
+        assertThrows(ValidationException.class, () -> store.append(95, new int[10], types(10), new double[10]));
+        assertThrows(ValidationException.class, () -> store.append(201, new int[5], types(5), new double[5]));
+    }
+
+    @Test
+    void availabilityFollowsEveryTransition() throws InterruptedException {
+        EventTicketStore store = new EventTicketStore(1);
+        TicketType[] types = types(6);
+        types[4] = TicketType.VIP;
+        types[5] = TicketType.VIP;
+        store.append(1, new int[6], types, new double[6]);
+
+        store.hold(0, 10, Duration.ofMinutes(1));
+        store.hold(1, 11, Duration.ofSeconds(1));
+        store.sell(2, 12, 0, LocalDateTime.now());
+        store.hold(4, 13, Duration.ofMinutes(1));
+        assertEquals(1, store.countAvailable(TicketType.STANDARD));
+        assertEquals(1, store.countAvailable(TicketType.VIP));
+
+        store.releaseHold(0, 10);
+        store.release(2);
+        store.confirm(4, 13, 0, LocalDateTime.now());
+        assertEquals(3, store.countAvailable(TicketType.STANDARD));
+        assertEquals(1, store.countAvailable(TicketType.VIP));
+
+        Thread.sleep(2_100);
+        assertEquals(4, store.countAvailable(TicketType.STANDARD));
+        assertEquals(TicketState.AVAILABLE, store.stateAt(1));
+    }
+
+    @Test
+    void racingCustomersBuyEverySeatExactlyOnce() throws InterruptedException {
+        EventTicketStore store = new EventTicketStore(1);
+        double[] prices = new double[SEATS];
+        Arrays.fill(prices, 50);
+        store.append(1, new int[SEATS], types(SEATS), prices);
+        AtomicIntegerArray buyers = new AtomicIntegerArray(SEATS);
+        AtomicIntegerArray sales = new AtomicIntegerArray(SEATS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean racing = new AtomicBoolean(true);
+
+        Thread repricer = new Thread(() -> {
+            for (int round = 0; racing.get(); round++) {
+                double[] factors = new double[TicketType.values().length];
+                Arrays.fill(factors, 1 + round % 3);
+                store.reprice(factors);
+            }
+        });
+        List<Thread> threads = new ArrayList<>();
+        for (int customer = 1; customer <= CUSTOMERS; customer++) {
+            int customerID = customer;
+            threads.add(new Thread(() -> {
+                awaitQuietly(start);
+                buyOneSeat(store, customerID, buyers, sales);
+            }));
+        }
+        threads.forEach(Thread::start);
+        repricer.start();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        racing.set(false);
+        repricer.join();
+
+        assertEquals(SEATS, store.countSold());
+        assertEquals(0, store.countAvailable(TicketType.STANDARD));
+        for (int position = 0; position < SEATS; position++) {
+            TicketView ticket = store.view(position);
+            assertEquals(1, sales.get(position), "seat " + position + " sold more or less than once");
+            assertEquals(TicketState.SOLD, ticket.getState());
+            assertEquals(buyers.get(position), ticket.getCustomerID());
+            assertEquals(buyers.get(position), ticket.getCartID());
+            assertTrue(ticket.getPrice() == 50 || ticket.getPrice() == 100 || ticket.getPrice() == 150);
+        }
+    }
+
+    /**
+     * A third of the customers buy directly, the others hold first; every fifth holder changes their mind
+     * and releases the hold before moving on to the next seat.
+     */
+    private static void buyOneSeat(EventTicketStore store, int customerID, AtomicIntegerArray buyers,
+                                   AtomicIntegerArray sales) {
+        int first = ThreadLocalRandom.current().nextInt(SEATS);
+        for (int i = 0; i < SEATS; i++) {
+            int position = (first + i) % SEATS;
+            if (customerID % 3 == 0) {
+                try {
+                    store.sell(position, customerID, customerID, LocalDateTime.now());
+                } catch (RuntimeException e) {
+                    continue;
+                }
+            } else if (!store.hold(position, customerID, Duration.ofMinutes(1))) {
+                continue;
+            } else if (customerID % 5 == 0) {
+                store.releaseHold(position, customerID);
+                continue;
+            } else {
+                store.confirm(position, customerID, customerID, LocalDateTime.now());
+            }
+            buyers.set(position, customerID);
+            sales.incrementAndGet(position);
+            return;
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static TicketType[] types(int count) {
+        TicketType[] types = new TicketType[count];
+        Arrays.fill(types, TicketType.STANDARD);
+        return types;
+    }
+}
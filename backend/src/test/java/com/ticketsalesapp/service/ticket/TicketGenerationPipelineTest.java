@@ -0,0 +1,82 @@
+package com.ticketsalesapp.service.ticket;
+
+import com.ticketsalesapp.model.ticket.TicketType;
+import com.ticketsalesapp.service.ticket.TicketGenerationPipeline.SectionSeats;
+import com.ticketsalesapp.service.ticket.TicketGenerationPipeline.TypeAllocation;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TicketGenerationPipelineTest {
+    private static final int EVENT_ID = 7;
+    private static final int FIRST_TICKET_ID = 1_001;
+    private static final List<SectionSeats> SECTIONS = List.of(
+            new SectionSeats(1, IntStream.rangeClosed(1, 250).toArray()),
+            new SectionSeats(2, IntStream.rangeClosed(251, 550).toArray()),
+            SectionSeats.generalAdmission(3, 200));
+    private static final List<TypeAllocation> ALLOCATIONS = List.of(
+            new TypeAllocation(TicketType.EARLY_BIRD, 100, 30),
+            new TypeAllocation(TicketType.VIP, 200, 90),
+            new TypeAllocation(TicketType.STANDARD, 400, 50));
+    private static final int TOTAL = 700;
+
+    private final TicketGenerationPipeline pipeline = new TicketGenerationPipeline(64);
+
+    @Test
+    void resumedGenerationStoresEveryTicketExactlyOnce() {
+        EventTicketStore store = new EventTicketStore(EVENT_ID);
+        AtomicInteger writes = new AtomicInteger();
+        // the sixth and later batches are stored but crash before their checkpoint is recorded
+        assertThrows(IllegalStateException.class, () -> pipeline.generate(EVENT_ID, FIRST_TICKET_ID, SECTIONS,
+                ALLOCATIONS, batch -> {
+                    store.append(batch);
+                    if (writes.incrementAndGet() > 5) {
+                        throw new IllegalStateException("crash");
+                    }
+                }, store.generationCheckpoints(), progress -> { }));
+        int storedBeforeResume = store.size();
+        assertTrue(storedBeforeResume > 0 && storedBeforeResume < TOTAL);
+
+        AtomicInteger reported = new AtomicInteger();
+        int generated = pipeline.generate(EVENT_ID, FIRST_TICKET_ID, SECTIONS, ALLOCATIONS, store::append,
+                store.generationCheckpoints(), progress -> reported.accumulateAndGet(progress.generated(), Math::max));
+
+        assertEquals(TOTAL, store.size());
+        assertTrue(generated < TOTAL, "resumed run regenerated everything");
+        assertEquals(TOTAL, reported.get());
+        for (int offset = 0; offset < TOTAL; offset++) {
+            TicketView ticket = store.find(FIRST_TICKET_ID + offset).orElseThrow();
+            assertEquals(expectedType(offset), ticket.getTicketType(), "type of ticket " + offset);
+            assertEquals(offset < 550 ? offset + 1 : 0, ticket.getSeatID(), "seat of ticket " + offset);
+        }
+        assertTrue(store.find(FIRST_TICKET_ID + TOTAL).isEmpty());
+        for (SectionSeats section : SECTIONS) {
+            assertEquals(0, store.generationCheckpoints().completed(EVENT_ID, section.sectionID()));
+        }
+    }
+
+    @Test
+    void freshStoreIgnoresAnotherStoresCheckpoints() {
+        EventTicketStore lost = new EventTicketStore(EVENT_ID);
+        assertThrows(IllegalStateException.class, () -> pipeline.generate(EVENT_ID, FIRST_TICKET_ID, SECTIONS,
+                ALLOCATIONS, batch -> {
+                    lost.append(batch);
+                    throw new IllegalStateException("crash");
+                }, lost.generationCheckpoints(), progress -> { }));
+
+        EventTicketStore restarted = new EventTicketStore(EVENT_ID);
+        assertEquals(TOTAL, pipeline.generate(EVENT_ID, FIRST_TICKET_ID, SECTIONS, ALLOCATIONS, restarted::append,
+                restarted.generationCheckpoints(), progress -> { }));
+        assertEquals(TOTAL, restarted.size());
+    }
+
+    private static TicketType expectedType(int offset) {
+        return offset < 100 ? TicketType.EARLY_BIRD : offset < 300 ? TicketType.VIP : TicketType.STANDARD;
+    }
+}
@@ -0,0 +1,148 @@
+package com.ticketsalesapp.service.user;
+
+import com.ticketsalesapp.exception.ServiceUnavailableException;
+import com.ticketsalesapp.model.user.Customer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Login storm: many callers hammer {@link UserDirectory#authenticate} at once, so the hashing pool runs
+ * saturated and its queue overflows. Reports throughput and latency percentiles for directories of very
+ * different sizes; with a username index the percentiles should not move with the number of customers.
+ * <p>
+ * Excluded from the normal test run; run it with
+ * {@code mvn test -Dexcluded.test.groups= -Dgroups=benchmark -Dtest=LoginStormBenchmark}.
+ */
+@Tag("benchmark")
+class LoginStormBenchmark {
+    private static final int[] DIRECTORY_SIZES = {1_000, 1_000_000};
+    private static final int ITERATIONS = 20_000;
+    private static final int HASHER_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    private static final int QUEUE_CAPACITY = 16;
+    private static final int CALLERS = 128;
+    private static final long STORM_SECONDS = 10;
+    private static final long WARMUP_SECONDS = 3;
+    private static final long BACKOFF_MILLIS = 5;
+    private static final String PASSWORD = "correct horse";
+
+    @Test
+    void loginLatencyUnderSaturation() throws InterruptedException {
+        // warm up the hashing and lookup paths so the first measured storm is not mostly JIT compilation
+        storm(directoryOf(DIRECTORY_SIZES[0], new PasswordHasher(ITERATIONS, HASHER_THREADS, QUEUE_CAPACITY)),
+                DIRECTORY_SIZES[0], WARMUP_SECONDS, false);
+        for (int size : DIRECTORY_SIZES) {
+            PasswordHasher hasher = new PasswordHasher(ITERATIONS, HASHER_THREADS, QUEUE_CAPACITY);
+            UserDirectory directory = directoryOf(size, hasher);
+            storm(directory, size, STORM_SECONDS, true);
+        }
+    }
+
+    private static UserDirectory directoryOf(int size, PasswordHasher hasher) {
+        UserDirectory directory = new UserDirectory(hasher);
+        // every customer shares one hash: only the lookup should depend on the directory size
+        String hash = hasher.hash(PASSWORD);
+        for (int id = 1; id <= size; id++) {
+            directory.register(new Customer(id, "customer" + id, "customer" + id + "@example.com", hash));
+        }
+        return directory;
+    }
+
+    private static void storm(UserDirectory directory, int size, long seconds, boolean report)
+            throws InterruptedException {
+        List<long[]> accepted = new ArrayList<>();
+        List<long[]> rejected = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        List<Thread> callers = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            long[][] samples = {new long[1024], new long[1024]};
+            int[] counts = new int[2];
+            Thread caller = new Thread(() -> {
+                awaitQuietly(start);
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    String username = "customer" + (1 + random.nextInt(size));
+                    // one attempt in ten is a wrong password, as in credential stuffing
+                    String password = random.nextInt(10) == 0 ? "wrong" : PASSWORD;
+                    long begin = System.nanoTime();
+                    int outcome = 0;
+                    try {
+                        directory.authenticate(username, password);
+                    } catch (ServiceUnavailableException e) {
+                        outcome = 1;
+                    }
+                    long elapsed = System.nanoTime() - begin;
+                    if (outcome == 1) {
+                        // a rejected client backs off briefly before retrying
+                        sleepQuietly(BACKOFF_MILLIS);
+                    }
+                    if (counts[outcome] == samples[outcome].length) {
+                        samples[outcome] = Arrays.copyOf(samples[outcome], counts[outcome] * 2);
+                    }
+                    samples[outcome][counts[outcome]++] = elapsed;
+                }
+                synchronized (accepted) {
+                    accepted.add(Arrays.copyOf(samples[0], counts[0]));
+                    rejected.add(Arrays.copyOf(samples[1], counts[1]));
+                }
+            });
+            caller.start();
+            callers.add(caller);
+        }
+        start.countDown();
+        for (Thread caller : callers) {
+            caller.join();
+        }
+        if (!report) {
+            return;
+        }
+        long[] served = merge(accepted);
+        long[] shed = merge(rejected);
+        System.out.printf("%,d customers: %,d logins checked (%.1f/s), %,d rejected as overloaded%n",
+                size, served.length, served.length / (double) seconds, shed.length);
+        System.out.printf("  checked:  p50 %s  p99 %s  max %s%n",
+                millis(percentile(served, 50)), millis(percentile(served, 99)), millis(percentile(served, 100)));
+        System.out.printf("  rejected: p50 %s  p99 %s%n", millis(percentile(shed, 50)), millis(percentile(shed, 99)));
+    }
+
+    private static long[] merge(List<long[]> parts) {
+        long[] all = parts.stream().flatMapToLong(Arrays::stream).toArray();
+        Arrays.sort(all);
+        return all;
+    }
+
+    private static long percentile(long[] sorted, int percent) {
+        if (sorted.length == 0) {
+            return -1;
+        }
+        int index = (int) Math.ceil(percent / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private static String millis(long nanos) {
+        return nanos < 0 ? "n/a" : String.format("%.2f ms", nanos / 1e6);
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
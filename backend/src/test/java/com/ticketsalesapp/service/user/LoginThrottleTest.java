@@ -0,0 +1,32 @@
+package com.ticketsalesapp.service.user;
+
+import com.ticketsalesapp.exception.TooManyAttemptsException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoginThrottleTest {
+    private final LoginThrottle throttle = new LoginThrottle(3, Duration.ofMinutes(1), 5, Duration.ofMinutes(1));
+
+    @Test
+    void hammeringOneUsernameDoesNotLockOutOthers() {
+        for (int i = 0; i < 3; i++) {
+            throttle.acquire("victim", null);
+        }
+        assertThrows(TooManyAttemptsException.class, () -> throttle.acquire("victim", null));
+
+        throttle.acquire("someone-else", null);
+    }
+
+    @Test
+    void clientBucketIsPerAddress() {
+        for (int i = 0; i < 5; i++) {
+            throttle.acquire("user" + i, "203.0.113.7");
+        }
+        assertThrows(TooManyAttemptsException.class, () -> throttle.acquire("user9", "203.0.113.7"));
+
+        throttle.acquire("user9", "198.51.100.2");
+    }
+}
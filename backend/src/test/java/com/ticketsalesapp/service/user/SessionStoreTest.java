@@ -0,0 +1,35 @@
+package com.ticketsalesapp.service.user;
+
+import com.ticketsalesapp.model.user.Customer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SessionStoreTest {
+    private final SessionStore store = new SessionStore(Duration.ofMinutes(30), Duration.ofSeconds(5), 100);
+
+    @AfterEach
+    void stopSweeper() {
+        store.close();
+    }
+
+    @Test
+    void closeAllEndsEverySessionOfTheUserOnly() {
+        Customer deleted = new Customer(1, "alice", "alice@example.com", "hash");
+        Customer other = new Customer(2, "bob", "bob@example.com", "hash");
+        String console = store.open(deleted);
+        String browser = store.open(deleted);
+        String kept = store.open(other);
+
+        assertEquals(2, store.closeAll(deleted));
+
+        assertTrue(store.resolve(console).isEmpty());
+        assertTrue(store.resolve(browser).isEmpty());
+        assertEquals(other, store.resolve(kept).get());
+        assertEquals(1, store.size());
+    }
+}
@@ -0,0 +1,116 @@
+package com.ticketsalesapp.service.waitingroom;
+
+import com.ticketsalesapp.exception.BusinessLogicException;
+import com.ticketsalesapp.service.waitingroom.WaitingRoomStatus.State;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WaitingRoomTest {
+    private static final int EVENT_ID = 1;
+    private static final long TIMEOUT_MILLIS = 5_000;
+    private static final long CHURN_MILLIS = 1_000;
+
+    private WaitingRoom room;
+
+    @AfterEach
+    void stopTicker() {
+        room.close();
+    }
+
+    @Test
+    void admitsInArrivalOrderUpToTheCapacity() throws InterruptedException {
+        room = new WaitingRoom(Duration.ofMillis(5), Duration.ofMinutes(1));
+        room.open(EVENT_ID, 2, 1_000);
+        for (int customer = 1; customer <= 5; customer++) {
+            room.join(EVENT_ID, customer);
+        }
+
+        String first = awaitAdmission(1);
+        awaitAdmission(2);
+        Thread.sleep(100);
+        for (int customer = 3; customer <= 5; customer++) {
+            WaitingRoomStatus status = room.status(EVENT_ID, customer);
+            assertEquals(State.WAITING, status.state(), "customer " + customer);
+            assertEquals(customer - 2, status.position(), "place of customer " + customer);
+        }
+
+        room.complete(first);
+        awaitAdmission(3);
+        Thread.sleep(100);
+        assertEquals(State.NOT_QUEUED, room.status(EVENT_ID, 1).state());
+        assertEquals(State.ADMITTED, room.status(EVENT_ID, 2).state());
+        assertEquals(State.WAITING, room.status(EVENT_ID, 4).state());
+        assertEquals(1, room.status(EVENT_ID, 4).position());
+    }
+
+    @Test
+    void expiredAdmissionGivesItsSlotToTheNextInLine() {
+        room = new WaitingRoom(Duration.ofMillis(5), Duration.ofMillis(300));
+        room.open(EVENT_ID, 1, 1_000);
+        room.join(EVENT_ID, 1);
+        room.join(EVENT_ID, 2);
+
+        String token = awaitAdmission(1);
+        room.checkAdmission(token, EVENT_ID, 1);
+        assertEquals(State.WAITING, room.status(EVENT_ID, 2).state());
+
+        awaitAdmission(2);
+        assertEquals(State.NOT_QUEUED, room.status(EVENT_ID, 1).state());
+        assertThrows(BusinessLogicException.class, () -> room.checkAdmission(token, EVENT_ID, 1));
+    }
+
+    /**
+     * Customers who leave while the ticker admits them must not keep a slot: afterwards a full room's worth
+     * of new customers is still let in.
+     */
+    @Test
+    void leavingWhileBeingAdmittedFreesTheSlot() throws InterruptedException {
+        room = new WaitingRoom(Duration.ofMillis(1), Duration.ofMinutes(1));
+        int capacity = 20;
+        room.open(EVENT_ID, capacity, 1_000_000);
+        List<Thread> threads = new ArrayList<>();
+        long end = System.currentTimeMillis() + CHURN_MILLIS;
+        for (int thread = 0; thread < 8; thread++) {
+            int firstCustomer = 1 + thread * 10_000_000;
+            threads.add(new Thread(() -> {
+                for (int customer = firstCustomer; System.currentTimeMillis() < end; customer++) {
+                    room.join(EVENT_ID, customer);
+                    room.leave(EVENT_ID, customer);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        for (int customer = 100_000_001; customer <= 100_000_000 + capacity; customer++) {
+            room.join(EVENT_ID, customer);
+        }
+        for (int customer = 100_000_001; customer <= 100_000_000 + capacity; customer++) {
+            awaitAdmission(customer);
+        }
+    }
+
+    private String awaitAdmission(int customerID) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (true) {
+            WaitingRoomStatus status = room.status(EVENT_ID, customerID);
+            if (status.state() == State.ADMITTED) {
+                return status.admissionToken();
+            }
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("customer " + customerID + " was not admitted: " + status);
+            }
+            LockSupport.parkNanos(1_000_000);
+        }
+    }
+}